@@ -0,0 +1,97 @@
+package com.example.orders;
+
+import com.example.orders.domain.DashboardStats;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.signals.OrderWindow;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Order data for the benchmarks. The data is generated from a fixed seed so runs
+ * of different releases measure the same input.
+ */
+public final class BenchmarkOrders {
+
+    private static final OrderState[] STATES = OrderState.values();
+
+    private BenchmarkOrders() {
+    }
+
+    /**
+     * Orders with ids 1 to {@code count}, all inside the default working-set window.
+     */
+    public static List<OrderSummary> summaries(int count) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        int days = OrderWindow.DEFAULT.daysBack() + OrderWindow.DEFAULT.daysAhead() + 1;
+        List<OrderSummary> summaries = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            summaries.add(new OrderSummary(id, 0L,
+                    "Customer " + random.nextInt(Math.max(1, count / 10)),
+                    OrderWindow.DEFAULT.from(today).plusDays(random.nextInt(days)),
+                    STATES[random.nextInt(STATES.length)],
+                    100 + random.nextInt(20_000),
+                    PickupLocation.values()[random.nextInt(2)],
+                    random.nextBoolean()));
+        }
+        return summaries;
+    }
+
+    /**
+     * The same order with the next version and a different state.
+     */
+    public static OrderSummary changed(OrderSummary order) {
+        OrderState state = order.state() == OrderState.NEW ? OrderState.READY : OrderState.NEW;
+        return new OrderSummary(order.id(), order.version() + 1, order.customerName(), order.dueDate(),
+                state, order.totalCents(), order.pickupLocation(), order.paid());
+    }
+
+    /**
+     * Totals of the given orders, as the dashboard aggregate query would return them.
+     */
+    public static DashboardStats statsOf(List<OrderSummary> orders, LocalDate date) {
+        long[] counts = new long[STATES.length];
+        long dueToday = 0;
+        for (OrderSummary order : orders) {
+            counts[order.state().ordinal()]++;
+            dueToday += date.equals(order.dueDate()) ? 1 : 0;
+        }
+        return new DashboardStats(date, counts[OrderState.NEW.ordinal()], counts[OrderState.READY.ordinal()],
+                counts[OrderState.DELIVERED.ordinal()], counts[OrderState.CANCELLED.ordinal()], dueToday);
+    }
+
+    /**
+     * A repository serving the given working set from memory, so that the benchmarks
+     * measure the code under test rather than the database. Single orders are looked
+     * up with {@code summaryById}; all other repository methods are unsupported.
+     */
+    public static OrderRepository repository(List<OrderSummary> workingSet,
+                                             Function<Long, OrderSummary> summaryById) {
+        DashboardStats stats = statsOf(workingSet, LocalDate.now());
+        return (OrderRepository) Proxy.newProxyInstance(OrderRepository.class.getClassLoader(),
+                new Class<?>[]{OrderRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findWorkingSet" -> workingSet;
+                    case "findDashboardStats" -> stats;
+                    case "findSummaryById" -> Optional.ofNullable(summaryById.apply((Long) args[0]));
+                    case "findSummariesByIdIn" -> ((Collection<?>) args[0]).stream()
+                            .map(id -> summaryById.apply((Long) id))
+                            .filter(Objects::nonNull)
+                            .toList();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkOrders.repository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
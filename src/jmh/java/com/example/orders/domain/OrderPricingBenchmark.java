@@ -0,0 +1,65 @@
+package com.example.orders.domain;
+
+import com.example.products.domain.Product;
+import com.example.shared.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of pricing an order, by number of items in the basket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPricingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int basketSize;
+
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        order = new Order();
+        order.setDiscount(Money.ofCents(250));
+        for (int i = 0; i < basketSize; i++) {
+            Product product = new Product("Product " + i, null, Money.ofCents(100 + random.nextInt(5000)), true);
+            order.getItems().add(new OrderItem(product, 1 + random.nextInt(12), product.getPrice()));
+        }
+    }
+
+    @Benchmark
+    public Money recalculateTotalPrice() {
+        order.recalculateTotalPrice();
+        return order.getTotalPrice();
+    }
+
+    /**
+     * Formatting the price and subtotal cells of the item grids.
+     */
+    @Benchmark
+    public void renderItemPrices(Blackhole blackhole) {
+        for (OrderItem item : order.getItems()) {
+            blackhole.consume(item.getPricePerUnit().toString());
+            blackhole.consume(Money.format(item.subtotalCents()));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.orders.signals;
+
+import com.example.orders.BenchmarkOrders;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of keeping the shared order signals up to date, by size of the working set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSignalsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int orderCount;
+
+    private final Map<Long, OrderSummary> stored = new HashMap<>();
+
+    private OrderRepository repository;
+
+    private long nextChangedId;
+
+    private OrderSummary added;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<OrderSummary> orders = BenchmarkOrders.summaries(orderCount);
+        orders.forEach(order -> stored.put(order.id(), order));
+        // Every lookup returns a new version of the order, so each refresh is a real change
+        repository = BenchmarkOrders.repository(orders, id -> {
+            OrderSummary changed = BenchmarkOrders.changed(stored.get(id));
+            stored.put(id, changed);
+            return changed;
+        });
+        added = new OrderSummary(orderCount + 1L, 0L, "Benchmark Customer", LocalDate.now(),
+                orders.getFirst().state(), 1000, PickupLocation.STOREFRONT, false);
+
+        OrderSignals.reset();
+        OrderSignals.refreshAll(repository, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        OrderSignals.reset();
+        stored.clear();
+    }
+
+    /**
+     * Adding an order and removing it again, so the list keeps its size across invocations.
+     */
+    @Benchmark
+    public void addAndRemoveOrder() {
+        OrderSignals.addOrder(added);
+        OrderSignals.removeOrder(added.id());
+    }
+
+    @Benchmark
+    public void refreshOrder() {
+        nextChangedId = nextChangedId % orderCount + 1;
+        OrderSignals.refreshOrder(repository, nextChangedId);
+    }
+
+    /**
+     * A forced full refresh that finds nothing changed: reconciling the list
+     * and seeding the dashboard counters from the aggregate.
+     */
+    @Benchmark
+    public void refreshAllUnchanged() {
+        OrderSignals.refreshAll(repository, true);
+    }
+
+    @Benchmark
+    public boolean reconcileDashboardStats() {
+        return OrderSignals.reconcileDashboardStats(repository);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.orders.ui;
+
+import com.example.orders.BenchmarkOrders;
+import com.example.orders.domain.OrderFilter;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.signals.OrderChange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the order list filter pipeline: matching orders against the filter in
+ * memory, and routing a batch of order changes to row refreshes of the grid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderListFilterBenchmark {
+
+    // As many changes as the change journal of the order signals holds
+    private static final int CHANGE_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int orderCount;
+
+    private List<OrderSummary> orders;
+
+    private OrderFilter filter;
+
+    private OrderListDataProvider dataProvider;
+
+    private List<OrderChange> changes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orders = BenchmarkOrders.summaries(orderCount);
+        LocalDate today = LocalDate.now();
+        filter = new OrderFilter(null, today.minusDays(3), today.plusDays(14), "customer 1");
+
+        dataProvider = new OrderListDataProvider(BenchmarkOrders.repository(orders, id -> null));
+        dataProvider.setFilter(filter);
+
+        changes = new ArrayList<>(CHANGE_COUNT);
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            OrderSummary before = orders.get(i % orders.size());
+            changes.add(new OrderChange(before, BenchmarkOrders.changed(before)));
+        }
+    }
+
+    @Benchmark
+    public List<OrderSummary> filterOrders() {
+        return orders.stream().filter(filter::matches).toList();
+    }
+
+    @Benchmark
+    public void applyChanges() {
+        dataProvider.applyChanges(changes);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.customers.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -8,9 +10,43 @@ import java.util.List;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
-    List<Customer> findByNameContainingIgnoreCase(String name);
-
-    List<Customer> findByPhoneContaining(String phone);
-
-    List<Customer> findByEmailContainingIgnoreCase(String email);
+    /**
+     * Customers whose lower-cased name or email matches {@code pattern}, or whose phone
+     * number contains {@code digits} (ignored when empty), in one indexed query.
+     * <p>
+     * Only up to {@code candidates} substring matches are ranked, together with up to as
+     * many names matching {@code prefix}, so that a short or common term does not sort a
+     * large part of the table; pages are read from that ranked set. Ranked first are names
+     * starting with the term, then emails or phone numbers starting with it, then names by
+     * trigram similarity to {@code term}.
+     *
+     * @param term    the lower-cased search term
+     * @param prefix  LIKE pattern for values starting with the term
+     * @param pattern LIKE pattern for values containing the term
+     * @param digits  the digits of a phone number, or an empty string
+     */
+    @Query(value = """
+            SELECT c.* FROM customers c
+            WHERE c.id IN (
+                (SELECT id FROM customers WHERE lower(name) LIKE :prefix LIMIT :candidates)
+                UNION ALL
+                (SELECT id FROM customers
+                 WHERE lower(name) LIKE :pattern
+                    OR lower(email) LIKE :pattern
+                    OR (:digits <> '' AND regexp_replace(phone, '[^0-9]', '', 'g') LIKE '%' || :digits || '%')
+                 LIMIT :candidates))
+            ORDER BY
+                CASE
+                    WHEN lower(c.name) LIKE :prefix THEN 0
+                    WHEN lower(c.email) LIKE :prefix
+                        OR (:digits <> '' AND regexp_replace(c.phone, '[^0-9]', '', 'g') LIKE :digits || '%') THEN 1
+                    ELSE 2
+                END,
+                similarity(lower(c.name), :term) DESC, c.name, c.id
+            OFFSET :offset LIMIT :limit
+            """, nativeQuery = true)
+    List<Customer> search(@Param("term") String term, @Param("prefix") String prefix,
+                          @Param("pattern") String pattern, @Param("digits") String digits,
+                          @Param("offset") int offset, @Param("limit") int limit,
+                          @Param("candidates") int candidates);
 }
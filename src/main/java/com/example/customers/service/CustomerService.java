@@ -7,12 +7,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Service
 @Transactional
 public class CustomerService {
 
+    // Results shown for a search in the customer views
+    public static final int SEARCH_LIMIT = 50;
+
+    // Matches ranked for a search, bounding the work for common terms; only these can be paged through
+    private static final int SEARCH_CANDIDATES = 500;
+
+    private static final Pattern LIKE_WILDCARDS = Pattern.compile("[\\\\%_]");
+
+    // Digits with the usual phone number punctuation
+    private static final Pattern PHONE_TERM = Pattern.compile("[0-9 +()./-]*[0-9][0-9 +()./-]*");
+
     private final CustomerRepository customerRepository;
 
     public CustomerService(CustomerRepository customerRepository) {
@@ -32,19 +45,31 @@ public class CustomerService {
         return customerRepository.findAll();
     }
 
+    /**
+     * Customers whose name, email or phone number contains the term, best matches first
+     * and at most {@code limit} of them. A term that looks like a phone number is matched
+     * against the digits of the phone numbers, so any formatting finds the same customers.
+     */
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
-    public List<Customer> searchByName(String name) {
-        return customerRepository.findByNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public List<Customer> search(String term, int limit) {
+        return search(term, 0, limit);
     }
 
+    /**
+     * A page of the {@linkplain #search(String, int) search results}, for lazy loading.
+     */
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
-    public List<Customer> searchByPhone(String phone) {
-        return customerRepository.findByPhoneContaining(phone);
-    }
-
-    @RolesAllowed({"ADMIN", "EMPLOYEE"})
-    public List<Customer> searchByEmail(String email) {
-        return customerRepository.findByEmailContainingIgnoreCase(email);
+    @Transactional(readOnly = true)
+    public List<Customer> search(String term, int offset, int limit) {
+        if (term == null || term.isBlank()) {
+            return List.of();
+        }
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        String escaped = LIKE_WILDCARDS.matcher(normalized).replaceAll("\\\\$0");
+        String digits = PHONE_TERM.matcher(normalized).matches() ? normalized.replaceAll("[^0-9]", "") : "";
+        return customerRepository.search(normalized, escaped + "%", "%" + escaped + "%", digits,
+                offset, limit, SEARCH_CANDIDATES);
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
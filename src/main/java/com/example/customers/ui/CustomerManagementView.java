@@ -22,7 +22,6 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.RolesAllowed;
 
-import java.util.List;
 
 @Route(value = "customers", layout = MainLayout.class)
 @PageTitle("Customer Management")
@@ -161,13 +160,7 @@ public class CustomerManagementView extends VerticalLayout {
             refreshGrid();
         } else {
             // Search by name, phone, or email
-            List<Customer> results = new java.util.ArrayList<>();
-            results.addAll(customerService.searchByName(searchTerm));
-            results.addAll(customerService.searchByPhone(searchTerm));
-            results.addAll(customerService.searchByEmail(searchTerm));
-
-            // Remove duplicates
-            grid.setItems(results.stream().distinct().toList());
+            grid.setItems(customerService.search(searchTerm, CustomerService.SEARCH_LIMIT));
         }
     }
 
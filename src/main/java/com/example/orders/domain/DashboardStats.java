@@ -0,0 +1,42 @@
+package com.example.orders.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Order counts shown on the dashboard: orders per state, and orders due on {@code date}.
+ */
+public record DashboardStats(LocalDate date, long newCount, long readyCount, long deliveredCount,
+                             long cancelledCount, long dueTodayCount) {
+
+    public static DashboardStats empty(LocalDate date) {
+        return new DashboardStats(date, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Combine the per-state rows of {@link OrderRepository#countByStateWithDueOn(LocalDate)}.
+     */
+    public static DashboardStats of(LocalDate date, List<OrderStateCount> stateCounts) {
+        long[] counts = new long[OrderState.values().length];
+        long dueToday = 0;
+        for (OrderStateCount stateCount : stateCounts) {
+            counts[stateCount.state().ordinal()] = stateCount.count();
+            dueToday += stateCount.dueOnDateCount() != null ? stateCount.dueOnDateCount() : 0;
+        }
+        return new DashboardStats(date,
+                counts[OrderState.NEW.ordinal()],
+                counts[OrderState.READY.ordinal()],
+                counts[OrderState.DELIVERED.ordinal()],
+                counts[OrderState.CANCELLED.ordinal()],
+                dueToday);
+    }
+
+    public long count(OrderState state) {
+        return switch (state) {
+            case NEW -> newCount;
+            case READY -> readyCount;
+            case DELIVERED -> deliveredCount;
+            case CANCELLED -> cancelledCount;
+        };
+    }
+}
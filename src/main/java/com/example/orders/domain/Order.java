@@ -2,11 +2,11 @@ package com.example.orders.domain;
 
 import com.example.customers.domain.Customer;
 import com.example.security.domain.User;
+import com.example.shared.domain.Money;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,8 +15,25 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "orders")
+@NamedEntityGraph(name = Order.LIST_GRAPH, attributeNodes = @NamedAttributeNode("customer"))
+@NamedEntityGraph(name = Order.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode(value = "items", subgraph = "items")
+        },
+        subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
 public class Order {
 
+    /**
+     * Loads orders with their customer, for lists of orders.
+     */
+    public static final String LIST_GRAPH = "Order.list";
+
+    /**
+     * Loads an order with its customer, items and their products, for showing a single order.
+     */
+    public static final String DETAIL_GRAPH = "Order.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,19 +48,19 @@ public class Order {
     private OrderState state = OrderState.NEW;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
     @JsonManagedReference
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderItem> items = new ArrayList<>();
 
     @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalPrice = BigDecimal.ZERO;
+    private Money totalPrice = Money.ZERO;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal discount = BigDecimal.ZERO;
+    private Money discount = Money.ZERO;
 
     @Column(nullable = false)
     private boolean paid = false;
@@ -116,14 +133,21 @@ public class Order {
     }
 
     public void recalculateTotalPrice() {
-        BigDecimal subtotal = items.stream()
-                .map(OrderItem::calculateSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = Math.max(0, subtotalCents() - (discount != null ? discount.cents() : 0));
+        if (totalPrice == null || totalPrice.cents() != total) {
+            totalPrice = Money.ofCents(total);
+        }
+    }
 
-        totalPrice = subtotal.subtract(discount != null ? discount : BigDecimal.ZERO);
-        if (totalPrice.compareTo(BigDecimal.ZERO) < 0) {
-            totalPrice = BigDecimal.ZERO;
+    /**
+     * Sum of the item subtotals in cents, before the discount.
+     */
+    public long subtotalCents() {
+        long subtotal = 0;
+        for (OrderItem item : items) {
+            subtotal = Math.addExact(subtotal, item.subtotalCents());
         }
+        return subtotal;
     }
 
     // Getters and setters
@@ -175,19 +199,19 @@ public class Order {
         recalculateTotalPrice();
     }
 
-    public BigDecimal getTotalPrice() {
+    public Money getTotalPrice() {
         return totalPrice;
     }
 
-    public void setTotalPrice(BigDecimal totalPrice) {
+    public void setTotalPrice(Money totalPrice) {
         this.totalPrice = totalPrice;
     }
 
-    public BigDecimal getDiscount() {
+    public Money getDiscount() {
         return discount;
     }
 
-    public void setDiscount(BigDecimal discount) {
+    public void setDiscount(Money discount) {
         this.discount = discount;
         recalculateTotalPrice();
     }
@@ -0,0 +1,29 @@
+package com.example.orders.domain;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Filter criteria of the order list. Null values (and a blank customer name) match all orders.
+ */
+public record OrderFilter(OrderState state, LocalDate from, LocalDate to, String customerName) {
+
+    public static final OrderFilter ALL = new OrderFilter(null, null, null, null);
+
+    public OrderFilter {
+        customerName = customerName == null || customerName.isBlank()
+                ? null : customerName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether the order matches this filter, evaluated in memory the same way
+     * as {@link OrderSpecifications#matching(OrderFilter)} does in the database.
+     */
+    public boolean matches(OrderSummary order) {
+        return (state == null || order.state() == state)
+                && (from == null || !order.dueDate().isBefore(from))
+                && (to == null || !order.dueDate().isAfter(to))
+                && (customerName == null || (order.customerName() != null
+                && order.customerName().toLowerCase(Locale.ROOT).contains(customerName)));
+    }
+}
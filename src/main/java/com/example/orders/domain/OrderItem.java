@@ -1,12 +1,13 @@
 package com.example.orders.domain;
 
 import com.example.products.domain.Product;
+import com.example.shared.domain.Money;
+import com.example.shared.domain.PositiveMoney;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
@@ -23,7 +24,7 @@ public class OrderItem {
     private Order order;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
@@ -32,9 +33,9 @@ public class OrderItem {
     private Integer quantity;
 
     @NotNull
-    @Positive
+    @PositiveMoney
     @Column(name = "price_per_unit", nullable = false, precision = 10, scale = 2)
-    private BigDecimal pricePerUnit;
+    private Money pricePerUnit;
 
     @Column(name = "customization_specs", columnDefinition = "TEXT")
     private String customizationSpecs;
@@ -42,22 +43,30 @@ public class OrderItem {
     public OrderItem() {
     }
 
-    public OrderItem(Product product, Integer quantity, BigDecimal pricePerUnit) {
+    public OrderItem(Product product, Integer quantity, Money pricePerUnit) {
         this.product = product;
         this.quantity = quantity;
         this.pricePerUnit = pricePerUnit;
     }
 
-    public OrderItem(Product product, Integer quantity, BigDecimal pricePerUnit, String customizationSpecs) {
+    public OrderItem(Product product, Integer quantity, Money pricePerUnit, String customizationSpecs) {
         this.product = product;
         this.quantity = quantity;
         this.pricePerUnit = pricePerUnit;
         this.customizationSpecs = customizationSpecs;
     }
 
-    // Business method
-    public BigDecimal calculateSubtotal() {
-        return pricePerUnit.multiply(BigDecimal.valueOf(quantity));
+    // Business methods
+    public Money calculateSubtotal() {
+        return Money.ofCents(subtotalCents());
+    }
+
+    /**
+     * Subtotal in cents, computed without allocating; zero while price or quantity is not set.
+     */
+    public long subtotalCents() {
+        return pricePerUnit != null && quantity != null
+                ? Math.multiplyExact(pricePerUnit.cents(), quantity.longValue()) : 0;
     }
 
     // Getters and setters
@@ -94,11 +103,11 @@ public class OrderItem {
         this.quantity = quantity;
     }
 
-    public BigDecimal getPricePerUnit() {
+    public Money getPricePerUnit() {
         return pricePerUnit;
     }
 
-    public void setPricePerUnit(BigDecimal pricePerUnit) {
+    public void setPricePerUnit(Money pricePerUnit) {
         this.pricePerUnit = pricePerUnit;
     }
 
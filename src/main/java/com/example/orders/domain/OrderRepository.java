@@ -1,32 +1,112 @@
 package com.example.orders.domain;
 
+import com.example.customers.domain.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>,
+        OrderSummaryQueries {
 
+    // Associations are lazy; each use case names the entity graph it needs so that
+    // loading takes a fixed number of queries instead of one or more per order
+
+    /**
+     * A single order with its customer, items and products, in one query.
+     */
+    @Override
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Optional<Order> findById(Long id);
+
+    /**
+     * A single order with its customer only, for state transitions, which neither
+     * read nor change the items.
+     */
+    @EntityGraph(Order.LIST_GRAPH)
+    Optional<Order> findWithCustomerById(Long id);
+
+    @Override
+    @EntityGraph(Order.LIST_GRAPH)
+    List<Order> findAll();
+
+    @EntityGraph(Order.LIST_GRAPH)
     List<Order> findByState(OrderState state);
 
+    @EntityGraph(Order.LIST_GRAPH)
     List<Order> findByDueDate(LocalDate dueDate);
 
+    @EntityGraph(Order.LIST_GRAPH)
     List<Order> findByDueDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(Order.LIST_GRAPH)
     @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId")
     List<Order> findByCustomerId(@Param("customerId") Long customerId);
 
+    @EntityGraph(Order.LIST_GRAPH)
     @Query("SELECT o FROM Order o WHERE o.customer.name LIKE %:customerName%")
     List<Order> findByCustomerNameContaining(@Param("customerName") String customerName);
 
+    @EntityGraph(Order.LIST_GRAPH)
     @Query("SELECT o FROM Order o WHERE o.dueDate = :date ORDER BY o.createdAt DESC")
     List<Order> findTodaysOrders(@Param("date") LocalDate date);
 
+    // Summary projections for the shared order signals and grids
+
+    String SUMMARY_SELECT = "SELECT new com.example.orders.domain.OrderSummary("
+            + "o.id, o.version, c.name, o.dueDate, o.state, o.totalPrice, o.pickupLocation, o.paid) "
+            + "FROM Order o JOIN o.customer c ";
+
+    @Query(SUMMARY_SELECT + "WHERE o.id = :id")
+    Optional<OrderSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE o.id IN :ids")
+    List<OrderSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE o.state IN :activeStates OR o.dueDate BETWEEN :from AND :to")
+    List<OrderSummary> findWorkingSet(@Param("activeStates") Collection<OrderState> activeStates,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    /**
+     * The working set in id order, starting after the given id, for loading it in pages.
+     */
+    @Query(SUMMARY_SELECT + "WHERE (o.state IN :activeStates OR o.dueDate BETWEEN :from AND :to) "
+            + "AND o.id > :afterId ORDER BY o.id")
+    List<OrderSummary> findWorkingSetAfter(@Param("activeStates") Collection<OrderState> activeStates,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("afterId") Long afterId,
+                                           Pageable page);
+
+    /**
+     * The customers of the latest orders, newest order first, once per order. Reads the
+     * newest orders by primary key, so the cost does not grow with the number of orders.
+     */
+    @Query("SELECT c FROM Order o JOIN o.customer c ORDER BY o.id DESC")
+    List<Customer> findCustomersOfLatestOrders(Pageable page);
+
     long countByState(OrderState state);
 
+    // Dashboard statistics in one round-trip, answered from idx_orders_due_date_state
+
+    @Query("SELECT new com.example.orders.domain.OrderStateCount(o.state, COUNT(o), "
+            + "SUM(CASE WHEN o.dueDate = :date THEN 1L ELSE 0L END)) "
+            + "FROM Order o GROUP BY o.state")
+    List<OrderStateCount> countByStateWithDueOn(@Param("date") LocalDate date);
+
+    default DashboardStats findDashboardStats(LocalDate today) {
+        return DashboardStats.of(today, countByStateWithDueOn(today));
+    }
+
     long countByDueDate(LocalDate dueDate);
 }
@@ -0,0 +1,103 @@
+package com.example.orders.domain;
+
+import com.example.customers.domain.Customer;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Composable query criteria for orders, for use with {@link OrderRepository}.
+ * Each criterion maps to a single indexed condition: state and due date use the
+ * indexes on the orders table, the customer name criterion the trigram index on
+ * {@code lower(customers.name)}.
+ */
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * All criteria of the filter that are set; criteria that are not set add no condition at all.
+     */
+    public static Specification<Order> matching(OrderFilter filter) {
+        List<Specification<Order>> criteria = new ArrayList<>();
+        if (filter.state() != null) {
+            criteria.add(hasState(filter.state()));
+        }
+        if (filter.from() != null) {
+            criteria.add(dueOnOrAfter(filter.from()));
+        }
+        if (filter.to() != null) {
+            criteria.add(dueOnOrBefore(filter.to()));
+        }
+        if (filter.customerName() != null) {
+            criteria.add(customerNameContains(filter.customerName()));
+        }
+        return Specification.allOf(criteria);
+    }
+
+    public static Specification<Order> hasState(OrderState state) {
+        return (order, query, cb) -> cb.equal(order.get("state"), state);
+    }
+
+    public static Specification<Order> dueOnOrAfter(LocalDate date) {
+        return (order, query, cb) -> cb.greaterThanOrEqualTo(order.get("dueDate"), date);
+    }
+
+    public static Specification<Order> dueOnOrBefore(LocalDate date) {
+        return (order, query, cb) -> cb.lessThanOrEqualTo(order.get("dueDate"), date);
+    }
+
+    /**
+     * Customer name contains the given text, ignoring case.
+     */
+    public static Specification<Order> customerNameContains(String text) {
+        return (order, query, cb) -> cb.like(cb.lower(customer(order).get("name")),
+                "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%", '\\');
+    }
+
+    // Keyset conditions: rows that come after the given row in the respective sort order
+
+    public static Specification<Order> afterDueDateAndId(LocalDate dueDate, Long id) {
+        return (order, query, cb) -> cb.or(
+                cb.greaterThan(order.get("dueDate"), dueDate),
+                cb.and(cb.equal(order.get("dueDate"), dueDate), cb.greaterThan(order.get("id"), id)));
+    }
+
+    public static Specification<Order> beforeDueDateAndId(LocalDate dueDate, Long id) {
+        return (order, query, cb) -> cb.or(
+                cb.lessThan(order.get("dueDate"), dueDate),
+                cb.and(cb.equal(order.get("dueDate"), dueDate), cb.lessThan(order.get("id"), id)));
+    }
+
+    public static Specification<Order> afterId(Long id) {
+        return (order, query, cb) -> cb.greaterThan(order.get("id"), id);
+    }
+
+    public static Specification<Order> beforeId(Long id) {
+        return (order, query, cb) -> cb.lessThan(order.get("id"), id);
+    }
+
+    /**
+     * The join to the customer, reusing one the query already has (such as the
+     * one of the summary projection) rather than joining the table twice.
+     */
+    @SuppressWarnings("unchecked")
+    static Join<Order, Customer> customer(Root<Order> order) {
+        return order.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals("customer"))
+                .map(join -> (Join<Order, Customer>) join)
+                .findFirst()
+                .orElseGet(() -> order.join("customer", JoinType.INNER));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
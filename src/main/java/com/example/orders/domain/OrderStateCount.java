@@ -0,0 +1,7 @@
+package com.example.orders.domain;
+
+/**
+ * One row of the grouped dashboard query: number of orders in a state and how many of them are due on the given day.
+ */
+public record OrderStateCount(OrderState state, Long count, Long dueOnDateCount) {
+}
@@ -0,0 +1,55 @@
+package com.example.orders.domain;
+
+import com.example.shared.domain.Money;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable, compact projection of an {@link Order} holding only what the order
+ * grids and dashboard show. Used as the payload of the shared order signals so they
+ * never reference JPA entities; the full entity is loaded only for order details.
+ *
+ * @param totalCents total price in cents
+ */
+public record OrderSummary(Long id,
+                           Long version,
+                           String customerName,
+                           LocalDate dueDate,
+                           OrderState state,
+                           long totalCents,
+                           PickupLocation pickupLocation,
+                           boolean paid) {
+
+    public OrderSummary {
+        // Customer names repeat across many orders, share one instance per name
+        customerName = customerName != null ? customerName.intern() : null;
+    }
+
+    /**
+     * Constructor used by the JPQL projection queries in {@link OrderRepository}.
+     */
+    public OrderSummary(Long id, Long version, String customerName, LocalDate dueDate,
+                        OrderState state, Money totalPrice, PickupLocation pickupLocation,
+                        boolean paid) {
+        this(id, version, customerName, dueDate, state, totalPrice != null ? totalPrice.cents() : 0, pickupLocation, paid);
+    }
+
+    public static OrderSummary from(Order order) {
+        return new OrderSummary(
+                order.getId(),
+                order.getVersion(),
+                order.getCustomer() != null ? order.getCustomer().getName() : null,
+                order.getDueDate(),
+                order.getState(),
+                order.getTotalPrice(),
+                order.getPickupLocation(),
+                order.isPaid());
+    }
+
+    /**
+     * Total price formatted for display, e.g. {@code $12.50}.
+     */
+    public String formattedTotal() {
+        return Money.format(totalCents);
+    }
+}
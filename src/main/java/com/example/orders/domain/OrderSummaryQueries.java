@@ -0,0 +1,19 @@
+package com.example.orders.domain;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification-based queries returning {@link OrderSummary} projections,
+ * implemented by {@link OrderSummaryQueriesImpl} as part of {@link OrderRepository}.
+ */
+public interface OrderSummaryQueries {
+
+    /**
+     * Summaries of the orders matching the specification, in the given order,
+     * reading at most {@code limit} rows.
+     */
+    List<OrderSummary> findSummaries(Specification<Order> specification, Sort sort, int limit);
+}
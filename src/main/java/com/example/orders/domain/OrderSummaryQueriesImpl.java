@@ -0,0 +1,47 @@
+package com.example.orders.domain;
+
+import com.example.customers.domain.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class OrderSummaryQueriesImpl implements OrderSummaryQueries {
+
+    private final EntityManager entityManager;
+
+    OrderSummaryQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrderSummary> findSummaries(Specification<Order> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderSummary> query = cb.createQuery(OrderSummary.class);
+        Root<Order> order = query.from(Order.class);
+        Join<Order, Customer> customer = order.join("customer", JoinType.INNER);
+
+        // Same columns as OrderRepository.SUMMARY_SELECT
+        query.select(cb.construct(OrderSummary.class,
+                order.get("id"), order.get("version"), customer.get("name"), order.get("dueDate"),
+                order.get("state"), order.get("totalPrice"), order.get("pickupLocation"), order.get("paid")));
+
+        Predicate predicate = specification.toPredicate(order, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, order, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.orders.service;
+
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderSummary;
+
+/**
+ * Published by {@link OrderService} when an order is created, changed or deleted.
+ * Listeners that mirror orders elsewhere should use {@code @TransactionalEventListener}
+ * so they only ever see committed changes.
+ *
+ * @param orderId      id of the changed order
+ * @param order        the saved and flushed entity, or null if the order was deleted
+ * @param customerName customer name, captured while the entity is still attached
+ */
+public record OrderChangedEvent(Long orderId, Order order, String customerName) {
+
+    public static OrderChangedEvent saved(Order order) {
+        return new OrderChangedEvent(order.getId(), order,
+                order.getCustomer() != null ? order.getCustomer().getName() : null);
+    }
+
+    public static OrderChangedEvent deleted(Long orderId) {
+        return new OrderChangedEvent(orderId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return order == null;
+    }
+
+    /**
+     * Summary of the saved order. {@link OrderService} flushes before publishing,
+     * so the version is the one being committed.
+     */
+    public OrderSummary toSummary() {
+        return new OrderSummary(order.getId(), order.getVersion(), customerName, order.getDueDate(),
+                order.getState(), order.getTotalPrice(), order.getPickupLocation(), order.isPaid());
+    }
+}
@@ -1,25 +1,44 @@
 package com.example.orders.service;
 
+import com.example.customers.domain.Customer;
+import com.example.orders.domain.DashboardStats;
 import com.example.orders.domain.Order;
 import com.example.orders.domain.OrderRepository;
 import com.example.orders.domain.OrderState;
-import com.example.orders.signals.OrderSignals;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.security.RolesAllowed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Order use cases. Every public method is timed as {@value #METRIC}, tagged with the
+ * method and the exception it threw, if any.
+ */
 @Service
 @Transactional
+@Timed(value = OrderService.METRIC, histogram = true)
 public class OrderService {
 
+    public static final String METRIC = "bakery.orders.service";
+
+    // Latest orders whose customers are suggested by findRecentCustomers
+    private static final int RECENT_ORDERS = 200;
+
     private final OrderRepository orderRepository;
 
-    public OrderService(OrderRepository orderRepository) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderService(OrderRepository orderRepository, ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
@@ -28,8 +47,8 @@ public class OrderService {
             throw new IllegalArgumentException("New order should not have an ID");
         }
         order.recalculateTotalPrice();
-        Order saved = orderRepository.save(order);
-        OrderSignals.addOrder(saved);
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(OrderChangedEvent.saved(saved));
         return saved;
     }
 
@@ -67,38 +86,38 @@ public class OrderService {
             throw new IllegalArgumentException("Order not found with ID: " + order.getId());
         }
         order.recalculateTotalPrice();
-        Order saved = orderRepository.save(order);
-        OrderSignals.refreshOrder(orderRepository, saved.getId());
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(OrderChangedEvent.saved(saved));
         return saved;
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
     public Order markReady(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithCustomerById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
         order.markReady();
-        Order saved = orderRepository.save(order);
-        OrderSignals.refreshOrder(orderRepository, saved.getId());
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(OrderChangedEvent.saved(saved));
         return saved;
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
     public Order markDelivered(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithCustomerById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
         order.markDelivered();
-        Order saved = orderRepository.save(order);
-        OrderSignals.refreshOrder(orderRepository, saved.getId());
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(OrderChangedEvent.saved(saved));
         return saved;
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
     public Order cancelOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithCustomerById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId));
         order.cancel();
-        Order saved = orderRepository.save(order);
-        OrderSignals.refreshOrder(orderRepository, saved.getId());
+        Order saved = orderRepository.saveAndFlush(order);
+        eventPublisher.publishEvent(OrderChangedEvent.saved(saved));
         return saved;
     }
 
@@ -108,7 +127,7 @@ public class OrderService {
             throw new IllegalArgumentException("Order not found with ID: " + id);
         }
         orderRepository.deleteById(id);
-        OrderSignals.removeOrder(id);
+        eventPublisher.publishEvent(OrderChangedEvent.deleted(id));
     }
 
     @RolesAllowed({"ADMIN", "EMPLOYEE"})
@@ -120,4 +139,31 @@ public class OrderService {
     public long countByState(OrderState state) {
         return orderRepository.countByState(state);
     }
+
+    /**
+     * Customers to suggest when taking a new order: those with the most orders among the
+     * latest ones, the most recent customer first among equals.
+     */
+    @RolesAllowed({"ADMIN", "EMPLOYEE"})
+    @Transactional(readOnly = true)
+    public List<Customer> findRecentCustomers(int limit) {
+        Map<Customer, Integer> orderCounts = new LinkedHashMap<>();
+        for (Customer customer : orderRepository.findCustomersOfLatestOrders(PageRequest.of(0, RECENT_ORDERS))) {
+            orderCounts.merge(customer, 1, Integer::sum);
+        }
+        return orderCounts.entrySet().stream()
+                .sorted(Map.Entry.<Customer, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Order counts per state and due today, with a single query.
+     */
+    @RolesAllowed({"ADMIN", "EMPLOYEE"})
+    @Transactional(readOnly = true)
+    public DashboardStats getDashboardStats() {
+        return orderRepository.findDashboardStats(LocalDate.now());
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.OrderSummary;
+
+/**
+ * A change to the shared order list: {@code before} is null for inserted orders,
+ * {@code after} is null for removed ones. {@code evicted} removals only dropped the
+ * order from the list because it left the working-set window; the order itself is
+ * unchanged in the database.
+ */
+public record OrderChange(OrderSummary before, OrderSummary after, boolean evicted) {
+
+    public OrderChange(OrderSummary before, OrderSummary after) {
+        this(before, after, false);
+    }
+
+    static OrderChange evicted(OrderSummary before) {
+        return new OrderChange(before, null, true);
+    }
+
+    public Long orderId() {
+        return after != null ? after.id() : before.id();
+    }
+}
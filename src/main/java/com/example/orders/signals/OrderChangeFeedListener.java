@@ -0,0 +1,290 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.service.OrderChangedEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies order changes made on other application nodes to the local signals.
+ * <p>
+ * Every committed change to an order is written to the {@code order_changes}
+ * table and announced on the {@code order_changes} channel by a database
+ * trigger (see V6 migration). This listener keeps a dedicated connection, opened
+ * outside the application's connection pool so it neither takes a pooled connection
+ * for good nor gets retired by the pool, LISTENing on that channel and refreshes the
+ * changed orders. Changes this node wrote itself are skipped. Notifications
+ * carry a sequence number; when one is skipped (or after reconnecting) the
+ * missed entries are re-read from the table, and if they have already been
+ * pruned (see {@link OrderChangeFeedPruner}) the whole working set is re-synchronized.
+ */
+@Component
+@ConditionalOnProperty(name = "bakery.change-feed.enabled", havingValue = "true")
+public class OrderChangeFeedListener implements SmartLifecycle {
+
+    static final String CHANNEL = "order_changes";
+
+    private static final Logger log = LoggerFactory.getLogger(OrderChangeFeedListener.class);
+
+    // Local writes remembered at most; forgetting one only costs a query
+    private static final int MAX_LOCAL_WRITES = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderRepository orderRepository;
+    private final String url;
+    private final Properties connectionProperties = new Properties();
+    private final Duration pollTimeout;
+
+    /**
+     * Order versions written by this node whose notification has not arrived yet. The
+     * notification can arrive before the signals are updated after the commit, so the
+     * version is recorded while the transaction is still open.
+     */
+    private final Map<Long, Long> localWrites = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    /**
+     * Highest sequence number that has been applied. Only meaningful once
+     * {@code positioned}, i.e. after the first catch-up or notification.
+     */
+    private long lastSeq;
+    private boolean positioned;
+
+    public OrderChangeFeedListener(JdbcTemplate jdbcTemplate,
+                                   OrderRepository orderRepository,
+                                   @Value("${spring.datasource.url}") String url,
+                                   @Value("${spring.datasource.username:}") String username,
+                                   @Value("${spring.datasource.password:}") String password,
+                                   @Value("${bakery.change-feed.poll-timeout:PT5S}") Duration pollTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderRepository = orderRepository;
+        this.url = url;
+        if (!username.isEmpty()) {
+            connectionProperties.setProperty("user", username);
+            connectionProperties.setProperty("password", password);
+        }
+        this.pollTimeout = pollTimeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("order-change-feed")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                // Waiting for notifications is not interruptible, it ends after the poll timeout
+                listenerThread.join(pollTimeout.multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Remember the version of an order this node is about to commit. Runs within the
+     * service's transaction, which flushes before publishing, so the version is final;
+     * it is forgotten again if the transaction rolls back.
+     */
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.isDeleted() || event.order().getVersion() == null) {
+            return;
+        }
+        Long orderId = event.orderId();
+        Long version = event.order().getVersion();
+        if (localWrites.size() >= MAX_LOCAL_WRITES) {
+            localWrites.clear();
+        }
+        localWrites.put(orderId, version);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        localWrites.remove(orderId, version);
+                    }
+                }
+            });
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                // Changes may have been committed while we were not listening
+                catchUp();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null && notifications.length > 0) {
+                        List<String> payloads = new ArrayList<>(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            payloads.add(notification.getParameter());
+                        }
+                        handleNotifications(payloads);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Order change feed connection lost, reconnecting", e);
+                try {
+                    Thread.sleep(pollTimeout.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply a batch of notification payloads in the form {@code seq,orderId,version,op}.
+     * If the sequence numbers show a gap, the missed changes are read from the
+     * change table as well.
+     */
+    synchronized void handleNotifications(List<String> payloads) {
+        long previousSeq = lastSeq;
+        long expectedSeq = lastSeq + 1;
+        boolean gap = false;
+        List<Change> changes = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            Change change = Change.parse(payload);
+            // Transactions may commit in a different order than they took their
+            // sequence numbers, so older changes are still applied
+            if (positioned && change.seq() > expectedSeq) {
+                gap = true;
+            }
+            expectedSeq = Math.max(expectedSeq, change.seq() + 1);
+            changes.add(change);
+        }
+
+        if (gap) {
+            // A notification was missed, or a transaction rolled back after taking a sequence number
+            changes.addAll(findChangesAfter(previousSeq));
+        }
+        applyChanges(changes);
+    }
+
+    /**
+     * Re-read every change after the last applied one from the change table.
+     * Falls back to a full re-sync when the missed changes have been pruned.
+     */
+    synchronized void catchUp() {
+        if (!positioned) {
+            // Nothing applied yet: the initial load of the signals reflects everything before now
+            lastSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM order_changes", Long.class);
+            positioned = true;
+            return;
+        }
+
+        Long minSeq = jdbcTemplate.queryForObject("SELECT MIN(seq) FROM order_changes", Long.class);
+        if (minSeq != null && minSeq > lastSeq + 1) {
+            log.info("Order change feed fell behind the retained changes, re-synchronizing all orders");
+            lastSeq = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM order_changes", Long.class);
+            if (OrderSignals.isInitialized()) {
+                OrderSignals.refreshAll(orderRepository, true);
+            }
+            return;
+        }
+
+        applyChanges(findChangesAfter(lastSeq));
+    }
+
+    private List<Change> findChangesAfter(long seq) {
+        return jdbcTemplate.query(
+                "SELECT seq, order_id, version, deleted FROM order_changes WHERE seq > ? ORDER BY seq",
+                (rs, rowNum) -> new Change(rs.getLong("seq"), rs.getLong("order_id"),
+                        rs.getObject("version", Long.class), rs.getBoolean("deleted")),
+                seq);
+    }
+
+    private void applyChanges(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Change change : changes) {
+            lastSeq = Math.max(lastSeq, change.seq());
+        }
+        positioned = true;
+
+        // Refresh each changed order once, skipping the ones this node wrote or already has.
+        // Also while warming up: pages that are already in would otherwise keep the old
+        // version, and pages still to come never replace a newer version with an older one.
+        // Ids are never reused, so deleted orders are removed without reading them
+        Set<Long> refresh = new LinkedHashSet<>();
+        Set<Long> deleted = new LinkedHashSet<>();
+        for (Change change : changes) {
+            if (change.deleted()) {
+                deleted.add(change.orderId());
+            } else if (!localWrites.remove(change.orderId(), change.version())
+                    && !OrderSignals.hasOrderVersion(change.orderId(), change.version())) {
+                refresh.add(change.orderId());
+            }
+        }
+        refresh.removeAll(deleted);
+        OrderSignals.batch(batch -> deleted.forEach(batch::remove));
+        OrderSignals.refreshOrders(orderRepository, refresh);
+    }
+
+    long getLastSeq() {
+        return lastSeq;
+    }
+
+    record Change(long seq, Long orderId, Long version, boolean deleted) {
+
+        static Change parse(String payload) {
+            String[] parts = payload.split(",", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed order change notification: " + payload);
+            }
+            Long version = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+            return new Change(Long.parseLong(parts[0]), Long.valueOf(parts[1]), version, "D".equals(parts[3]));
+        }
+    }
+}
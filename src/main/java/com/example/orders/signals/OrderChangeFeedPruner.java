@@ -0,0 +1,47 @@
+package com.example.orders.signals;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops change records that are older than the retention period. The database
+ * trigger records every order change whether or not this node listens for them
+ * (see {@link OrderChangeFeedListener}), so pruning runs regardless of
+ * {@code bakery.change-feed.enabled}. Listeners that fall further behind than
+ * the retention period fall back to a full re-sync.
+ * <p>
+ * The most recent record is always kept: listeners detect that they missed pruned
+ * changes by comparing their position with the oldest remaining sequence number.
+ */
+@Component
+public class OrderChangeFeedPruner {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderChangeFeedPruner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public OrderChangeFeedPruner(JdbcTemplate jdbcTemplate,
+                                 @Value("${bakery.change-feed.retention:PT24H}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${bakery.change-feed.prune-interval:PT1H}",
+            initialDelayString = "${bakery.change-feed.prune-interval:PT1H}")
+    public void pruneChanges() {
+        int pruned = jdbcTemplate.update("DELETE FROM order_changes WHERE changed_at < ? "
+                        + "AND seq < (SELECT MAX(seq) FROM order_changes)",
+                LocalDateTime.now().minus(retention));
+        if (pruned > 0) {
+            log.info("Pruned {} order change records", pruned);
+        }
+    }
+}
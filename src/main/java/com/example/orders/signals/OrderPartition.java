@@ -0,0 +1,69 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.OrderSummary;
+import com.vaadin.signals.NumberSignal;
+import com.vaadin.signals.Signal;
+import com.vaadin.signals.ValueSignal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * A subset of the shared order list, such as all orders due on one day or in one state.
+ * Membership is tracked by {@link OrderSignals}. The derived signal only depends on the
+ * membership revision and on the element signals of its members, so changes to orders
+ * outside the partition never notify its subscribers.
+ */
+class OrderPartition {
+
+    // Ordered by id so the derived list is stable between recomputations
+    private final Set<Long> memberIds = new ConcurrentSkipListSet<>();
+
+    private final NumberSignal revision = new NumberSignal();
+
+    private final Signal<List<OrderSummary>> orders;
+
+    OrderPartition(Function<Long, ValueSignal<OrderSummary>> elementLookup) {
+        orders = Signal.computed(() -> {
+            revision.value();
+            List<OrderSummary> members = new ArrayList<>(memberIds.size());
+            for (Long id : memberIds) {
+                ValueSignal<OrderSummary> element = elementLookup.apply(id);
+                if (element != null) {
+                    members.add(element.value());
+                }
+            }
+            return List.copyOf(members);
+        });
+    }
+
+    void add(Long orderId) {
+        if (memberIds.add(orderId)) {
+            revision.incrementBy(1);
+        }
+    }
+
+    void remove(Long orderId) {
+        if (memberIds.remove(orderId)) {
+            revision.incrementBy(1);
+        }
+    }
+
+    void clear() {
+        if (!memberIds.isEmpty()) {
+            memberIds.clear();
+            revision.incrementBy(1);
+        }
+    }
+
+    boolean isEmpty() {
+        return memberIds.isEmpty();
+    }
+
+    Signal<List<OrderSummary>> orders() {
+        return orders;
+    }
+}
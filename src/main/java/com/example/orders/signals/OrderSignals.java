@@ -1,26 +1,57 @@
 package com.example.orders.signals;
 
-import com.example.orders.domain.Order;
+import com.example.orders.domain.DashboardStats;
 import com.example.orders.domain.OrderRepository;
 import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
 import com.vaadin.signals.ListSignal;
 import com.vaadin.signals.NumberSignal;
 import com.vaadin.signals.Signal;
 import com.vaadin.signals.ValueSignal;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Central reactive state management for orders using Vaadin Signals.
  * This utility class provides static signals that are shared across all users,
  * enabling real-time updates when orders change.
+ * <p>
+ * Only the working set defined by the {@link OrderWindow} is kept in the signals;
+ * older finished orders are evicted periodically and read from the database when needed.
+ * The dashboard counters cover all orders: they are seeded from an aggregate query
+ * and then kept up to date with the changes applied to the working set.
  */
 public class OrderSignals {
 
+    // Guards all changes to the state below. A lock rather than synchronized methods, because
+    // refreshes query the database while holding it, which would pin virtual threads (JDK 21)
+    private static final ReentrantLock lock = new ReentrantLock();
+
     // Shared signals across all users (static fields)
-    private static final ListSignal<Order> orders = new ListSignal<>(Order.class);
+    private static final ListSignal<OrderSummary> orders = new ListSignal<>(OrderSummary.class);
+
+    // Order id -> element signal in the list above, kept in step with every structural change
+    private static final Map<Long, IndexedOrder> orderSignalsById = new ConcurrentHashMap<>();
+
+    // Partitions of the list above by due date and by state, created when first requested
+    private static final Map<LocalDate, OrderPartition> partitionsByDueDate = new ConcurrentHashMap<>();
+
+    private static final Map<OrderState, OrderPartition> partitionsByState = new ConcurrentHashMap<>();
 
     private static final NumberSignal todayOrderCount = new NumberSignal();
 
@@ -32,11 +63,37 @@ public class OrderSignals {
 
     private static final NumberSignal cancelledOrderCount = new NumberSignal();
 
+    // Most recent changes to the list, for views that update only the affected rows
+    private static final int CHANGE_JOURNAL_CAPACITY = 1024;
+
+    private static final ArrayDeque<OrderChange> changeJournal = new ArrayDeque<>();
+
+    // Number of changes recorded so far; published once per transaction
+    private static long changeCount = 0;
+
+    private static final NumberSignal changeSequence = new NumberSignal();
+
+    // Orders removed while the working set is loaded in pages; ids are never reused
+    private static final Set<Long> removedWhileWarmingUp = new HashSet<>();
+
     // Flag to ensure signals are only initialized once
     private static volatile boolean initialized = false;
 
+    // The same flag for views, which show a loading state until the working set is in
+    private static final ValueSignal<Boolean> loaded = new ValueSignal<>(false);
+
+    // Which orders are kept in the shared list
+    private static volatile OrderWindow window = OrderWindow.DEFAULT;
+
+    // Day the today counter was last counted for; it is recounted when the day changes
+    private static LocalDate statsDate = LocalDate.now();
+
+    static {
+        OrderSignalsMetrics.registerOrderCount(orderSignalsById);
+    }
+
     /**
-     * Reload all orders from database and update signals.
+     * Reload the working set of orders from database and update signals.
      * Call this on application startup or when full refresh is needed.
      * This method uses a flag to ensure it only initializes once (unless forceRefresh is true).
      */
@@ -45,23 +102,128 @@ public class OrderSignals {
     }
 
     /**
-     * Reload all orders from database and update signals.
+     * Reload the working set of orders from database and update signals.
      * @param repository The order repository
      * @param forceRefresh If true, refresh even if already initialized
      */
-    public static synchronized void refreshAll(OrderRepository repository, boolean forceRefresh) {
-        // Only initialize once unless forced
-        if (initialized && !forceRefresh) {
-            return;
+    public static void refreshAll(OrderRepository repository, boolean forceRefresh) {
+        lock.lock();
+        try {
+            // Only initialize once unless forced
+            if (initialized && !forceRefresh) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            long changesBefore = changeCount;
+            LocalDate today = LocalDate.now();
+            List<OrderSummary> workingSet = repository.findWorkingSet(
+                    OrderWindow.ACTIVE_STATES, window.from(today), window.to(today));
+
+            DashboardStats stats = repository.findDashboardStats(today);
+
+            // Only apply what differs from the current list so unchanged orders cause no UI updates
+            Signal.runInTransaction(() -> {
+                reconcileOrderList(workingSet);
+                setDashboardStats(stats);
+                publishChanges();
+            });
+
+            markInitialized();
+            OrderSignalsMetrics.recordMutation("refreshAll", start, changeCount - changesBefore);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        List<Order> allOrders = repository.findAll();
+    /**
+     * Load the working set page by page, so that views show orders as they arrive
+     * instead of waiting for the whole set. The dashboard counters are seeded from
+     * the database totals first, and counted again once all pages are in.
+     * <p>
+     * The lock is only held while merging a page, not while reading it, so views and order
+     * changes are not held up by the queries. A page never replaces a newer version of an
+     * order with an older one, nor brings back an order removed after it was read.
+     * Loaded orders are not recorded as changes; instead each page makes views that
+     * follow the change sequence reload. Does nothing if the signals have already been loaded.
+     *
+     * @return the number of orders loaded
+     */
+    public static int warmUp(OrderRepository repository, int pageSize) {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        if (initialized) {
+            return 0;
+        }
+        // Queries run without the lock, so views reading the signals are not held up by them
+        DashboardStats initialStats = repository.findDashboardStats(today);
+        lock.lock();
+        try {
+            if (initialized) {
+                return 0;
+            }
+            Signal.runInTransaction(() -> setDashboardStats(initialStats));
+        } finally {
+            lock.unlock();
+        }
+
+        int loadedCount = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<OrderSummary> page = repository.findWorkingSetAfter(OrderWindow.ACTIVE_STATES,
+                    window.from(today), window.to(today), afterId, PageRequest.ofSize(pageSize));
+            boolean lastPage = page.size() < pageSize;
+            // Counters may have missed changes that were applied before their order was loaded
+            DashboardStats stats = lastPage ? repository.findDashboardStats(LocalDate.now()) : null;
+            lock.lock();
+            try {
+                if (initialized) {
+                    // A full refresh got there first
+                    return loadedCount;
+                }
+                // Changes applied since the page was read are newer, mergeLoadedOrder keeps them
+                Signal.runInTransaction(() -> {
+                    page.forEach(OrderSignals::mergeLoadedOrder);
+                    if (stats != null) {
+                        setDashboardStats(stats);
+                    }
+                    requireReload();
+                });
+                loadedCount += page.size();
+                if (lastPage) {
+                    markInitialized();
+                    OrderSignalsMetrics.recordMutation("warmUp", start, loadedCount);
+                    return loadedCount;
+                }
+                afterId = page.getLast().id();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 
-        // Rebuild the entire list
-        rebuildOrderList(allOrders);
-        updateDashboardStats();
+    /**
+     * Add an order read while warming up, unless the list already has it in the same or a
+     * newer version, or it has been removed since the page was read. Neither a change nor
+     * counted: the counters come from the database totals.
+     */
+    private static void mergeLoadedOrder(OrderSummary order) {
+        if (removedWhileWarmingUp.contains(order.id())) {
+            return;
+        }
+        IndexedOrder indexed = orderSignalsById.get(order.id());
+        if (indexed == null) {
+            insertOrder(order);
+        } else if (order.version() != null
+                && (indexed.version() == null || order.version() > indexed.version())) {
+            updateOrder(indexed, order);
+        }
+    }
 
+    private static void markInitialized() {
         initialized = true;
+        removedWhileWarmingUp.clear();
+        loaded.value(true);
     }
 
     /**
@@ -73,33 +235,63 @@ public class OrderSignals {
             return;
         }
 
-        Order updated = repository.findById(orderId).orElse(null);
+        OrderSummary updated = repository.findSummaryById(orderId).orElse(null);
         if (updated != null) {
-            // Find and replace the order in the list
-            List<ValueSignal<Order>> signalList = orders.value();
-            for (ValueSignal<Order> orderSignal : signalList) {
-                Long existingId = orderSignal.value().getId();
-                if (existingId != null && existingId.equals(orderId)) {
-                    orderSignal.value(updated);
-                    updateDashboardStats();
-                    return;
-                }
-            }
-            // Order not found in list, add it
-            addOrder(updated);
+            putOrder(updated);
         } else {
             // Order was deleted, remove from list
             removeOrder(orderId);
         }
     }
 
+    /**
+     * Add the order to the signal list, or replace the order with the same id.
+     */
+    public static void putOrder(OrderSummary order) {
+        apply(new Batch().put(order));
+    }
+
+    /**
+     * Update several orders with one query and one signal transaction.
+     * Orders that no longer exist are removed from the list, and orders outside the
+     * working-set window are only updated if the list already holds them.
+     */
+    public static void refreshOrders(OrderRepository repository, Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        Batch batch = new Batch();
+        orderIds.forEach(batch::remove);
+        repository.findSummariesByIdIn(orderIds).forEach(batch::put);
+        apply(batch);
+    }
+
     /**
      * Add a new order to the signal list.
      * Call this after creating a new order.
      */
-    public static void addOrder(Order order) {
-        orders.insertLast(order);
-        updateDashboardStats();
+    public static void addOrder(OrderSummary order) {
+        lock.lock();
+        try {
+            if (order.id() != null) {
+                putOrder(order);
+                return;
+            }
+            // Not persisted, so it cannot be indexed or replaced later
+            long start = System.nanoTime();
+            StatsDelta delta = new StatsDelta();
+            delta.add(null, order);
+            Signal.runInTransaction(() -> {
+                insertOrder(order);
+                recordChange(null, order);
+                applyStatsDelta(delta);
+                publishChanges();
+            });
+            OrderSignalsMetrics.recordMutation("add", start, 1);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -110,84 +302,512 @@ public class OrderSignals {
         if (orderId == null) {
             return;
         }
+        apply(new Batch().remove(orderId));
+    }
 
-        // Get current orders, filter out the deleted one, and rebuild
-        List<ValueSignal<Order>> signalList = orders.value();
-        List<Order> remaining = signalList.stream()
-                .map(ValueSignal::value)
-                .filter(order -> order.getId() != null && !order.getId().equals(orderId))
-                .collect(Collectors.toList());
+    /**
+     * Collect several order changes and apply them together, e.g.
+     * {@code OrderSignals.batch(batch -> ids.forEach(batch::remove))}.
+     */
+    public static void batch(Consumer<Batch> changes) {
+        Batch batch = new Batch();
+        changes.accept(batch);
+        apply(batch);
+    }
 
-        rebuildOrderList(remaining);
-        updateDashboardStats();
+    /**
+     * Apply all changes of a batch as one signal transaction with a single counter
+     * update, so subscribers are notified once per batch instead of once per order.
+     * Orders that are not in the list yet are only added if they are within the
+     * working-set window; changes to older finished orders leave the list as it is.
+     */
+    public static void apply(Batch batch) {
+        lock.lock();
+        try {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            long changesBefore = changeCount;
+            StatsDelta delta = new StatsDelta();
+            OrderWindow currentWindow = window;
+            Signal.runInTransaction(() -> {
+                for (Long orderId : batch.removals) {
+                    if (!initialized) {
+                        // A page read before the removal must not bring the order back
+                        removedWhileWarmingUp.add(orderId);
+                    }
+                    IndexedOrder indexed = orderSignalsById.get(orderId);
+                    if (indexed != null) {
+                        OrderSummary before = indexed.signal().value();
+                        delta.add(before, null);
+                        deleteOrder(orderId, indexed);
+                        recordChange(before, null);
+                    }
+                }
+                for (OrderSummary order : batch.puts.values()) {
+                    IndexedOrder indexed = orderSignalsById.get(order.id());
+                    if (indexed == null && !currentWindow.contains(order, delta.today)) {
+                        // Finished orders outside the window are not kept, but a new one is still counted
+                        delta.addLoaded(order);
+                    } else if (indexed == null) {
+                        insertOrder(order);
+                        delta.addLoaded(order);
+                        recordChange(null, order);
+                    } else {
+                        OrderSummary before = indexed.signal().value();
+                        delta.add(before, order);
+                        updateOrder(indexed, order);
+                        recordChange(before, order);
+                    }
+                }
+                applyStatsDelta(delta);
+                publishChanges();
+            });
+            OrderSignalsMetrics.recordMutation("apply", start, changeCount - changesBefore);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * Helper method to rebuild the entire order list from scratch.
-     * Clears existing orders and adds new ones.
+     * Order changes to be applied to the signals together, see {@link #apply(Batch)}.
+     * Later changes to the same order replace earlier ones.
      */
-    private static void rebuildOrderList(List<Order> newOrders) {
-        // First, clear all existing orders by removing them one by one
-        List<ValueSignal<Order>> currentSignals = orders.value();
-        for (ValueSignal<Order> signal : currentSignals) {
-            orders.remove(signal);
+    public static final class Batch {
+
+        private final Map<Long, OrderSummary> puts = new LinkedHashMap<>();
+
+        private final Set<Long> removals = new LinkedHashSet<>();
+
+        /**
+         * Add the order, or replace the order with the same id.
+         */
+        public Batch put(OrderSummary order) {
+            if (order.id() == null) {
+                throw new IllegalArgumentException("Only persisted orders can be batched");
+            }
+            removals.remove(order.id());
+            puts.put(order.id(), order);
+            return this;
+        }
+
+        public Batch remove(Long orderId) {
+            puts.remove(orderId);
+            removals.add(orderId);
+            return this;
         }
 
-        // Now add all new orders
-        for (Order order : newOrders) {
-            orders.insertLast(order);
+        public boolean isEmpty() {
+            return puts.isEmpty() && removals.isEmpty();
         }
     }
 
     /**
-     * Recalculate dashboard statistics from the current order list.
-     * Called automatically by refresh methods.
+     * Remove finished orders that have moved out of the working-set window.
+     * Called periodically by {@link OrderSignalsMaintenance}.
+     *
+     * @return the number of evicted orders
      */
-    private static void updateDashboardStats() {
-        List<ValueSignal<Order>> signalList = orders.value();
-        LocalDate today = LocalDate.now();
+    public static int evictOutsideWindow() {
+        lock.lock();
+        try {
+            long start = System.nanoTime();
+            LocalDate today = LocalDate.now();
+            Map<Long, IndexedOrder> evicted = new LinkedHashMap<>();
+            orderSignalsById.forEach((id, indexed) -> {
+                if (!window.contains(indexed.state(), indexed.dueDate(), today)) {
+                    evicted.put(id, indexed);
+                }
+            });
+            if (!evicted.isEmpty()) {
+                // The orders still exist, so the counters (which cover all orders) stay as they are
+                Signal.runInTransaction(() -> {
+                    evicted.forEach((id, indexed) -> {
+                        OrderSummary before = indexed.signal().value();
+                        deleteOrder(id, indexed);
+                        recordChange(OrderChange.evicted(before));
+                    });
+                    publishChanges();
+                });
+            }
+            // Drop partitions of past days that no longer have members
+            partitionsByDueDate.entrySet().removeIf(entry ->
+                    entry.getKey().isBefore(window.from(today)) && entry.getValue().isEmpty());
+            OrderSignalsMetrics.recordMutation("evict", start, evicted.size());
+            return evicted.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Append an order to the list and register its element signal in the id index.
+     */
+    private static void insertOrder(OrderSummary order) {
+        ValueSignal<OrderSummary> orderSignal = orders.insertLast(order).signal();
+        if (order.id() != null) {
+            orderSignalsById.put(order.id(), IndexedOrder.of(orderSignal, order));
+            updatePartitions(order.id(), null, null, order.state(), order.dueDate());
+        }
+    }
+
+    /**
+     * Remove an order's element signal from the list, the id index and its partitions.
+     */
+    private static void deleteOrder(Long orderId, IndexedOrder indexed) {
+        updatePartitions(orderId, indexed.state(), indexed.dueDate(), null, null);
+        orders.remove(indexed.signal());
+        orderSignalsById.remove(orderId);
+    }
+
+    /**
+     * Write a new value into an existing element signal and record its version in the index.
+     */
+    private static void updateOrder(IndexedOrder indexed, OrderSummary order) {
+        indexed.signal().value(order);
+        orderSignalsById.put(order.id(), IndexedOrder.of(indexed.signal(), order));
+        updatePartitions(order.id(), indexed.state(), indexed.dueDate(), order.state(), order.dueDate());
+    }
+
+    /**
+     * Move an order between the existing partitions when its state or due date changes.
+     * Null old values mean the order is new, null new values that it was removed.
+     */
+    private static void updatePartitions(Long orderId, OrderState oldState, LocalDate oldDueDate,
+                                         OrderState newState, LocalDate newDueDate) {
+        if (oldState != newState) {
+            movePartitionMember(partitionsByState, orderId, oldState, newState);
+        }
+        if (!Objects.equals(oldDueDate, newDueDate)) {
+            movePartitionMember(partitionsByDueDate, orderId, oldDueDate, newDueDate);
+        }
+    }
+
+    private static <K> void movePartitionMember(Map<K, OrderPartition> partitions, Long orderId,
+                                                K oldKey, K newKey) {
+        OrderPartition oldPartition = oldKey != null ? partitions.get(oldKey) : null;
+        if (oldPartition != null) {
+            oldPartition.remove(orderId);
+        }
+        OrderPartition newPartition = newKey != null ? partitions.get(newKey) : null;
+        if (newPartition != null) {
+            newPartition.add(orderId);
+        }
+    }
+
+    /**
+     * Create a partition and fill it with the current orders matching the filter.
+     */
+    private static OrderPartition createPartition(Predicate<IndexedOrder> filter) {
+        OrderPartition partition = new OrderPartition(id -> {
+            IndexedOrder indexed = orderSignalsById.get(id);
+            return indexed != null ? indexed.signal() : null;
+        });
+        orderSignalsById.forEach((id, indexed) -> {
+            if (filter.test(indexed)) {
+                partition.add(id);
+            }
+        });
+        return partition;
+    }
+
+    /**
+     * Bring the order list in line with {@code newOrders} by id and version:
+     * orders that are gone are removed, new ones appended, and only orders whose
+     * version changed get a new value. Unchanged orders are not touched at all.
+     */
+    private static void reconcileOrderList(List<OrderSummary> newOrders) {
+        Set<Long> loadedIds = new HashSet<>();
+        for (OrderSummary order : newOrders) {
+            loadedIds.add(order.id());
+        }
+
+        for (Map.Entry<Long, IndexedOrder> entry : orderSignalsById.entrySet()) {
+            if (!loadedIds.contains(entry.getKey())) {
+                OrderSummary before = entry.getValue().signal().value();
+                deleteOrder(entry.getKey(), entry.getValue());
+                recordChange(before, null);
+            }
+        }
+
+        for (OrderSummary order : newOrders) {
+            IndexedOrder indexed = orderSignalsById.get(order.id());
+            if (indexed == null) {
+                insertOrder(order);
+                recordChange(null, order);
+            } else if (!indexed.isSameVersion(order)) {
+                OrderSummary before = indexed.signal().value();
+                updateOrder(indexed, order);
+                recordChange(before, order);
+            }
+        }
+    }
+
+    /**
+     * Append a change to the journal, dropping the oldest entry when it is full.
+     */
+    private static void recordChange(OrderSummary before, OrderSummary after) {
+        recordChange(new OrderChange(before, after));
+    }
+
+    private static void recordChange(OrderChange change) {
+        if (changeJournal.size() == CHANGE_JOURNAL_CAPACITY) {
+            changeJournal.removeFirst();
+        }
+        changeJournal.addLast(change);
+        changeCount++;
+    }
+
+    /**
+     * Notify subscribers of the change sequence that the journal does not cover the latest
+     * changes, so that views holding rows of their own reload: a sequence number is skipped
+     * and {@link #changesSince(long)} is empty for every earlier sequence.
+     */
+    private static void requireReload() {
+        changeJournal.clear();
+        changeCount++;
+        publishChanges();
+    }
+
+    /**
+     * Notify subscribers of the change sequence about the changes recorded in this transaction.
+     */
+    private static void publishChanges() {
+        OrderSignalsMetrics.published();
+        changeSequence.value((double) changeCount);
+    }
+
+    /**
+     * Element signal of an order in the list together with the version, state and
+     * due date it currently holds, so the index can be scanned without reading values back.
+     */
+    private record IndexedOrder(ValueSignal<OrderSummary> signal, Long version,
+                                OrderState state, LocalDate dueDate) {
+
+        static IndexedOrder of(ValueSignal<OrderSummary> signal, OrderSummary order) {
+            return new IndexedOrder(signal, order.version(), order.state(), order.dueDate());
+        }
+
+        /**
+         * Orders without a version (not yet persisted) are never considered unchanged.
+         */
+        boolean isSameVersion(OrderSummary order) {
+            return version != null && version.equals(order.version());
+        }
+    }
 
-        // Convert to regular list for counting
-        List<Order> currentOrders = signalList.stream()
-                .map(ValueSignal::value)
-                .collect(Collectors.toList());
+    /**
+     * Apply accumulated per-order changes to the dashboard counters without scanning
+     * the order list, touching each counter at most once.
+     * Recounts today's orders when the day has rolled over since the last count.
+     */
+    private static void applyStatsDelta(StatsDelta delta) {
+        for (OrderState state : OrderState.values()) {
+            int stateDelta = delta.stateDeltas[state.ordinal()];
+            if (stateDelta != 0) {
+                stateCountSignal(state).incrementBy(stateDelta);
+            }
+        }
 
-        // Count orders by state
-        long newCount = currentOrders.stream()
-                .filter(o -> o.getState() == OrderState.NEW)
-                .count();
+        LocalDate today = LocalDate.now();
+        if (!delta.today.equals(statsDate) || !delta.today.equals(today)) {
+            recountDueToday(today);
+        } else if (delta.todayDelta != 0) {
+            todayOrderCount.incrementBy(delta.todayDelta);
+        }
+    }
 
-        long readyCount = currentOrders.stream()
-                .filter(o -> o.getState() == OrderState.READY)
-                .count();
+    /**
+     * Count today's orders from the index. Every order due today is within the
+     * working-set window, so the index holds all of them.
+     */
+    private static void recountDueToday(LocalDate today) {
+        int count = 0;
+        for (IndexedOrder indexed : orderSignalsById.values()) {
+            if (today.equals(indexed.dueDate())) {
+                count++;
+            }
+        }
+        todayOrderCount.value(count);
+        statsDate = today;
+    }
 
-        long deliveredCount = currentOrders.stream()
-                .filter(o -> o.getState() == OrderState.DELIVERED)
-                .count();
+    /**
+     * Net change to the dashboard counters from a number of order changes.
+     */
+    private static final class StatsDelta {
+
+        private final LocalDate today = LocalDate.now();
+
+        private final int[] stateDeltas = new int[OrderState.values().length];
+
+        private int todayDelta;
+
+        /**
+         * Record an order that was not in the list before. New orders and active orders
+         * (which are always in the list once seen) have not been counted yet. Finished
+         * orders that were saved before come back from outside the window: they are already
+         * counted in their state, which cannot change any more, but not for today, as today
+         * is inside the window. If such an order is due today, its due date has just been
+         * moved to today, so it is added to today's count.
+         */
+        void addLoaded(OrderSummary after) {
+            boolean saved = after.version() != null && after.version() > 0;
+            if (saved && !OrderWindow.ACTIVE_STATES.contains(after.state())) {
+                if (today.equals(after.dueDate())) {
+                    todayDelta++;
+                }
+            } else {
+                add(null, after);
+            }
+        }
 
-        long cancelledCount = currentOrders.stream()
-                .filter(o -> o.getState() == OrderState.CANCELLED)
-                .count();
+        /**
+         * Record the change from {@code before} to {@code after}; either side
+         * may be null for inserts and removals.
+         */
+        void add(OrderSummary before, OrderSummary after) {
+            if (before != null) {
+                stateDeltas[before.state().ordinal()]--;
+                if (today.equals(before.dueDate())) {
+                    todayDelta--;
+                }
+            }
+            if (after != null) {
+                stateDeltas[after.state().ordinal()]++;
+                if (today.equals(after.dueDate())) {
+                    todayDelta++;
+                }
+            }
+        }
+    }
 
-        // Count today's orders (by due date)
-        long todayCount = currentOrders.stream()
-                .filter(o -> o.getDueDate().equals(today))
-                .count();
+    private static NumberSignal stateCountSignal(OrderState state) {
+        return switch (state) {
+            case NEW -> newOrderCount;
+            case READY -> readyOrderCount;
+            case DELIVERED -> deliveredOrderCount;
+            case CANCELLED -> cancelledOrderCount;
+        };
+    }
 
-        // Update signals
-        newOrderCount.value((double) newCount);
-        readyOrderCount.value((double) readyCount);
-        deliveredOrderCount.value((double) deliveredCount);
-        cancelledOrderCount.value((double) cancelledCount);
-        todayOrderCount.value((double) todayCount);
+    /**
+     * Set all counters from database totals.
+     */
+    private static void setDashboardStats(DashboardStats stats) {
+        newOrderCount.value((int) stats.newCount());
+        readyOrderCount.value((int) stats.readyCount());
+        deliveredOrderCount.value((int) stats.deliveredCount());
+        cancelledOrderCount.value((int) stats.cancelledCount());
+        todayOrderCount.value((int) stats.dueTodayCount());
+        statsDate = stats.date();
+    }
+
+    /**
+     * Compare the incrementally maintained counters against the database totals and
+     * correct any drift. Run periodically by {@link OrderSignalsMaintenance}.
+     *
+     * @return true if any counter had drifted and was corrected
+     */
+    public static boolean reconcileDashboardStats(OrderRepository repository) {
+        lock.lock();
+        try {
+            long start = System.nanoTime();
+            DashboardStats stats = repository.findDashboardStats(LocalDate.now());
+            boolean drifted = !stats.date().equals(statsDate)
+                    || todayOrderCount.valueAsInt() != stats.dueTodayCount();
+            for (OrderState state : OrderState.values()) {
+                drifted |= stateCountSignal(state).valueAsInt() != stats.count(state);
+            }
+            if (drifted) {
+                OrderSignalsMetrics.published();
+                Signal.runInTransaction(() -> setDashboardStats(stats));
+            }
+            OrderSignalsMetrics.recordMutation("reconcile", start, 0);
+            return drifted;
+        } finally {
+            lock.unlock();
+        }
     }
 
     // Getter methods returning read-only signals for UI binding
 
-    public static ListSignal<Order> getOrdersSignal() {
+    public static ListSignal<OrderSummary> getOrdersSignal() {
         return orders.asReadonly();
     }
 
+    /**
+     * Orders due on the given date. Only notifies when an order enters or leaves that
+     * day or one of its orders changes, not on changes to orders due on other days.
+     * The value is an immutable list computed once per change and shared by all
+     * subscribers, so views should hand it to their components as is rather than copy it.
+     */
+    public static Signal<List<OrderSummary>> getOrdersDueOnSignal(LocalDate dueDate) {
+        lock.lock();
+        try {
+            return partitionsByDueDate.computeIfAbsent(dueDate,
+                    date -> createPartition(indexed -> date.equals(indexed.dueDate()))).orders();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Orders in the given state. Only notifies when an order enters or leaves that
+     * state or one of its orders changes.
+     */
+    public static Signal<List<OrderSummary>> getOrdersInStateSignal(OrderState state) {
+        lock.lock();
+        try {
+            return partitionsByState.computeIfAbsent(state,
+                    key -> createPartition(indexed -> key == indexed.state())).orders();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of changes made to the order list so far. Views that keep their own rows
+     * read it in an effect and pass the previously seen value to {@link #changesSince(long)}.
+     */
+    public static NumberSignal getChangeSequenceSignal() {
+        return changeSequence.asReadonly();
+    }
+
+    /**
+     * The changes made to the order list after the given sequence number, oldest first.
+     * Empty if they are no longer available (the journal only keeps the most recent
+     * changes, and none survive a reset), in which case the caller should reload.
+     */
+    public static Optional<List<OrderChange>> changesSince(long sequence) {
+        lock.lock();
+        try {
+            long oldestAvailable = changeCount - changeJournal.size();
+            if (sequence < oldestAvailable || sequence > changeCount) {
+                return Optional.empty();
+            }
+            return Optional.of(changeJournal.stream()
+                    .skip(sequence - oldestAvailable)
+                    .toList());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current value of {@link #getChangeSequenceSignal()}, read without tracking.
+     */
+    public static long getChangeSequence() {
+        lock.lock();
+        try {
+            return changeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public static NumberSignal getTodayOrderCountSignal() {
         return todayOrderCount.asReadonly();
     }
@@ -212,8 +832,58 @@ public class OrderSignals {
      * Reset the initialization flag and clear all data.
      * Used primarily for testing to reset state between tests.
      */
-    public static synchronized void reset() {
-        initialized = false;
-        rebuildOrderList(List.of()); // Clear all orders
+    public static void reset() {
+        lock.lock();
+        try {
+            initialized = false;
+            removedWhileWarmingUp.clear();
+            loaded.value(false);
+            orders.clear();
+            orderSignalsById.clear();
+            partitionsByDueDate.values().forEach(OrderPartition::clear);
+            partitionsByState.values().forEach(OrderPartition::clear);
+            requireReload();
+            setDashboardStats(DashboardStats.empty(LocalDate.now()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The working-set window currently applied to the shared order list.
+     */
+    public static OrderWindow getWindow() {
+        return window;
+    }
+
+    /**
+     * Change the working-set window. Takes effect on the next refresh or eviction sweep.
+     */
+    public static void setWindow(OrderWindow window) {
+        OrderSignals.window = window;
+    }
+
+    /**
+     * Whether the signal list already holds the given version of an order.
+     * Used to skip change notifications for changes this node has applied itself.
+     */
+    public static boolean hasOrderVersion(Long orderId, Long version) {
+        IndexedOrder indexed = orderSignalsById.get(orderId);
+        return indexed != null && version != null && version.equals(indexed.version());
+    }
+
+    /**
+     * Whether the working set has been loaded, see {@link #isInitialized()}.
+     * Counters are available before, orders arrive while it is false.
+     */
+    public static Signal<Boolean> getLoadedSignal() {
+        return loaded.asReadonly();
+    }
+
+    /**
+     * Whether the signals have been loaded from the database.
+     */
+    public static boolean isInitialized() {
+        return initialized;
     }
 }
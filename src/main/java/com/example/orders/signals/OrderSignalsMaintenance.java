@@ -0,0 +1,73 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration and periodic housekeeping for the shared order signals.
+ * Applies the configured working-set window, loads the working set in the background
+ * once the application has started (so no view waits for it), evicts finished orders that have
+ * aged out of it, and verifies the incrementally maintained dashboard counters
+ * against the database totals (which also picks up the day rollover for today's
+ * count when no order changes happen around midnight).
+ */
+@Component
+public class OrderSignalsMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSignalsMaintenance.class);
+
+    private final OrderRepository orderRepository;
+
+    private final int warmUpPageSize;
+
+    public OrderSignalsMaintenance(OrderRepository orderRepository,
+                                   @Value("${bakery.signals.window.days-back:7}") int daysBack,
+                                   @Value("${bakery.signals.window.days-ahead:30}") int daysAhead,
+                                   @Value("${bakery.signals.warm-up.page-size:2000}") int warmUpPageSize) {
+        this.orderRepository = orderRepository;
+        this.warmUpPageSize = warmUpPageSize;
+        OrderSignals.setWindow(new OrderWindow(daysBack, daysAhead));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        int loaded = OrderSignals.warmUp(orderRepository, warmUpPageSize);
+        if (OrderSignals.isInitialized()) {
+            log.info("Loaded {} orders into the shared signals in {} ms", loaded, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bakery.signals.eviction-interval:PT1H}",
+            initialDelayString = "${bakery.signals.eviction-interval:PT1H}")
+    public void evictOutsideWindow() {
+        if (!OrderSignals.isInitialized()) {
+            return;
+        }
+        int evicted = OrderSignals.evictOutsideWindow();
+        if (evicted > 0) {
+            log.info("Evicted {} finished orders outside the working-set window", evicted);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bakery.signals.reconcile-interval:PT5M}",
+            initialDelayString = "${bakery.signals.reconcile-interval:PT5M}")
+    public void reconcileDashboardStats() {
+        if (!OrderSignals.isInitialized()) {
+            // The warm-up failed, e.g. because the database was not reachable yet
+            warmUp();
+            return;
+        }
+        if (OrderSignals.reconcileDashboardStats(orderRepository)) {
+            log.info("Dashboard counters were out of date and have been recounted");
+        }
+    }
+}
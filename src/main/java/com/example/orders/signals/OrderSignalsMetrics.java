@@ -0,0 +1,162 @@
+package com.example.orders.signals;
+
+import com.example.shared.ui.CoalescedEffect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the shared order signals and of the view effects that subscribe to them.
+ * <p>
+ * The signals are static, so the meters are registered in Micrometer's global registry;
+ * Spring Boot adds its own registry (and with it the Prometheus endpoint) to the global one.
+ * <ul>
+ * <li>{@value #MUTATION}: duration of each signal mutation, tagged with the operation</li>
+ * <li>{@value #MUTATION_CHANGES}: number of orders changed by each mutation</li>
+ * <li>{@value #ORDERS}: number of orders in the shared list</li>
+ * <li>{@value #EFFECT_TRIGGERS}: subscribed view effects triggered by signal changes, tagged
+ * with the binding, i.e. how many effects each mutation fans out to; see {@link #effect(String)}</li>
+ * <li>{@value #EFFECT_RUNS}: component updates applied for signal changes, tagged with the
+ * binding; a burst of changes coalesced into one update counts once</li>
+ * <li>{@value #EFFECT_LAG}: time from publishing a change until a binding has applied it to
+ * its component, i.e. the order-to-screen latency before the push is sent, including the
+ * coalescing window</li>
+ * </ul>
+ */
+public final class OrderSignalsMetrics {
+
+    public static final String MUTATION = "bakery.signals.mutation";
+
+    public static final String MUTATION_CHANGES = "bakery.signals.mutation.changes";
+
+    public static final String ORDERS = "bakery.signals.orders";
+
+    public static final String EFFECT_TRIGGERS = "bakery.signals.effect.triggers";
+
+    public static final String EFFECT_RUNS = "bakery.signals.effect.runs";
+
+    public static final String EFFECT_LAG = "bakery.signals.effect.lag";
+
+    private static final MeterRegistry registry = Metrics.globalRegistry;
+
+    // Registered once per operation, as mutations are recorded while holding the signals lock
+    private static final Map<String, MutationMeters> mutationMeters = new ConcurrentHashMap<>();
+
+    // When subscribers were last notified of a change; effects measure their lag from here
+    private static volatile long lastPublishedNanos = System.nanoTime();
+
+    private OrderSignalsMetrics() {
+    }
+
+    /**
+     * Record a mutation that started at {@code startNanos} and changed the given number of orders.
+     */
+    static void recordMutation(String operation, long startNanos, long changes) {
+        MutationMeters meters = mutationMeters.computeIfAbsent(operation, MutationMeters::register);
+        meters.duration().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        meters.changes().record(changes);
+    }
+
+    /**
+     * Note that subscribers are being notified of a change now.
+     */
+    static void published() {
+        lastPublishedNanos = System.nanoTime();
+    }
+
+    /**
+     * Report the size of the order index as the number of orders in the shared list.
+     */
+    static void registerOrderCount(Map<?, ?> orderIndex) {
+        Gauge.builder(ORDERS, orderIndex, Map::size)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Measure the updates of a {@link CoalescedEffect} binding: counts how often the binding is
+     * triggered by a change, the updates actually applied, and how long after the first change
+     * of each burst they happened. Use one listener per binding.
+     *
+     * @param name identifies the binding in the metrics, such as {@code "dashboard.new-count"}
+     */
+    public static CoalescedEffect.Listener effect(String name) {
+        return new EffectMeter(name);
+    }
+
+    private record MutationMeters(Timer duration, DistributionSummary changes) {
+
+        static MutationMeters register(String operation) {
+            return new MutationMeters(
+                    Timer.builder(MUTATION)
+                            .tag("operation", operation)
+                            .publishPercentileHistogram()
+                            .register(registry),
+                    DistributionSummary.builder(MUTATION_CHANGES)
+                            .tag("operation", operation)
+                            .register(registry));
+        }
+    }
+
+    /**
+     * Keeps only the binding name, as it is part of the view's state and serialized with the
+     * session; the meters are looked up again from the registry after deserialization.
+     */
+    private static final class EffectMeter implements CoalescedEffect.Listener {
+
+        private final String name;
+
+        private long changedAt;
+
+        private transient Counter triggers;
+
+        private transient Counter runs;
+
+        private transient Timer lag;
+
+        private EffectMeter(String name) {
+            this.name = name;
+            registerMeters();
+        }
+
+        private void registerMeters() {
+            triggers = Counter.builder(EFFECT_TRIGGERS).tag("effect", name).register(registry);
+            runs = Counter.builder(EFFECT_RUNS).tag("effect", name).register(registry);
+            lag = Timer.builder(EFFECT_LAG).tag("effect", name)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        @Serial
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            registerMeters();
+        }
+
+        @Override
+        public void triggered() {
+            triggers.increment();
+        }
+
+        @Override
+        public void burstStarted() {
+            changedAt = lastPublishedNanos;
+        }
+
+        @Override
+        public void applied() {
+            runs.increment();
+            lag.record(System.nanoTime() - changedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.orders.signals;
+
+import com.example.orders.service.OrderChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes committed order changes into the shared signals. Uses the state that
+ * was just saved rather than reading the order back, and never publishes
+ * changes from transactions that roll back.
+ */
+@Component
+public class OrderSignalsUpdater {
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.isDeleted()) {
+            OrderSignals.removeOrder(event.orderId());
+        } else {
+            OrderSignals.putOrder(event.toSummary());
+        }
+    }
+}
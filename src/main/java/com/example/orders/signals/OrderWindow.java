@@ -0,0 +1,51 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The working set of orders kept in the shared signals: every order that is
+ * still in progress, plus finished orders due within a range of days around today.
+ * Older DELIVERED/CANCELLED orders are only loaded from the database on demand.
+ *
+ * @param daysBack  how many days before today finished orders are kept
+ * @param daysAhead how many days after today finished orders are kept
+ */
+public record OrderWindow(int daysBack, int daysAhead) {
+
+    public static final OrderWindow DEFAULT = new OrderWindow(7, 30);
+
+    /**
+     * States of orders that are kept regardless of their due date.
+     */
+    public static final Set<OrderState> ACTIVE_STATES = EnumSet.of(OrderState.NEW, OrderState.READY);
+
+    public OrderWindow {
+        if (daysBack < 0 || daysAhead < 0) {
+            throw new IllegalArgumentException("Window days must not be negative");
+        }
+    }
+
+    public LocalDate from(LocalDate today) {
+        return today.minusDays(daysBack);
+    }
+
+    public LocalDate to(LocalDate today) {
+        return today.plusDays(daysAhead);
+    }
+
+    public boolean contains(OrderSummary order, LocalDate today) {
+        return contains(order.state(), order.dueDate(), today);
+    }
+
+    public boolean contains(OrderState state, LocalDate dueDate, LocalDate today) {
+        if (ACTIVE_STATES.contains(state)) {
+            return true;
+        }
+        return dueDate != null && !dueDate.isBefore(from(today)) && !dueDate.isAfter(to(today));
+    }
+}
@@ -1,13 +1,14 @@
 package com.example.orders.ui;
 
-import com.example.orders.domain.Order;
-import com.example.orders.domain.OrderRepository;
-import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.signals.OrderChange;
 import com.example.orders.signals.OrderSignals;
+import com.example.orders.signals.OrderSignalsMetrics;
+import com.example.shared.ui.CoalescedEffect;
 import com.example.shared.ui.MainLayout;
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEffect;
 import com.vaadin.flow.component.UI;
-import com.vaadin.signals.ValueSignal;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
@@ -15,21 +16,22 @@ import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.signals.Signal;
 import jakarta.annotation.security.RolesAllowed;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 
 @Route(value = "", layout = MainLayout.class)
 @PageTitle("Dashboard")
 @RolesAllowed({"ADMIN", "EMPLOYEE"})
 public class DashboardView extends VerticalLayout {
 
-    private final OrderRepository orderRepository;
-
     // Stats cards
     private final Span todayCountValue = new Span("0");
     private final Span newCountValue = new Span("0");
@@ -37,14 +39,14 @@ public class DashboardView extends VerticalLayout {
     private final Span deliveredCountValue = new Span("0");
 
     // Grid for today's orders
-    private final Grid<Order> todayOrdersGrid = new Grid<>(Order.class, false);
-
-    public DashboardView(OrderRepository orderRepository) {
-        this.orderRepository = orderRepository;
+    private final Grid<OrderSummary> todayOrdersGrid = new Grid<>(OrderSummary.class, false);
+    private final OrdersDueDataProvider todayOrders = new OrdersDueDataProvider(LocalDate.now());
+    private long seenChangeSequence;
 
-        // Initialize signals on first load
-        OrderSignals.refreshAll(orderRepository);
+    // Shown until the orders have been loaded in the background after startup
+    private final ProgressBar loadingIndicator = new ProgressBar();
 
+    public DashboardView() {
         setSizeFull();
         setPadding(true);
 
@@ -112,75 +114,73 @@ public class DashboardView extends VerticalLayout {
 
         configureTodayOrdersGrid();
 
-        section.add(title, todayOrdersGrid);
+        loadingIndicator.setIndeterminate(true);
+
+        section.add(title, loadingIndicator, todayOrdersGrid);
         return section;
     }
 
     private void configureTodayOrdersGrid() {
         todayOrdersGrid.setSizeFull();
 
-        todayOrdersGrid.addColumn(Order::getId).setHeader("ID").setWidth("80px");
-        todayOrdersGrid.addColumn(order -> order.getCustomer() != null ?
-                order.getCustomer().getName() : "N/A")
+        todayOrdersGrid.addColumn(OrderSummary::id).setHeader("ID").setWidth("80px");
+        todayOrdersGrid.addColumn(order -> order.customerName() != null ?
+                order.customerName() : "N/A")
                 .setHeader("Customer")
                 .setAutoWidth(true);
-        todayOrdersGrid.addColumn(Order::getState).setHeader("Status").setAutoWidth(true);
-        todayOrdersGrid.addColumn(order -> order.getTotalPrice() != null ?
-                "$" + order.getTotalPrice() : "$0.00")
+        todayOrdersGrid.addColumn(OrderSummary::state).setHeader("Status").setAutoWidth(true);
+        todayOrdersGrid.addColumn(OrderSummary::formattedTotal)
                 .setHeader("Total")
                 .setAutoWidth(true);
-        todayOrdersGrid.addColumn(Order::getPickupLocation)
+        todayOrdersGrid.addColumn(OrderSummary::pickupLocation)
                 .setHeader("Pickup Location")
                 .setAutoWidth(true);
-        todayOrdersGrid.addColumn(order -> order.isPaid() ? "Yes" : "No")
+        todayOrdersGrid.addColumn(order -> order.paid() ? "Yes" : "No")
                 .setHeader("Paid")
                 .setAutoWidth(true);
 
         // Navigate to order details on row click
         todayOrdersGrid.addItemClickListener(event -> {
             if (event.getItem() != null) {
-                UI.getCurrent().navigate(OrderDetailsView.class, event.getItem().getId());
+                UI.getCurrent().navigate(OrderDetailsView.class, event.getItem().id());
             }
         });
     }
 
     private void setupReactiveUpdates() {
-        // Reactive effect for today's order count
-        ComponentEffect.effect(this, () -> {
-            Number count = OrderSignals.getTodayOrderCountSignal().value();
-            todayCountValue.setText(count.toString());
-        });
-
-        // Reactive effect for NEW order count
-        ComponentEffect.effect(this, () -> {
-            Number count = OrderSignals.getNewOrderCountSignal().value();
-            newCountValue.setText(count.toString());
-        });
-
-        // Reactive effect for READY order count
-        ComponentEffect.effect(this, () -> {
-            Number count = OrderSignals.getReadyOrderCountSignal().value();
-            readyCountValue.setText(count.toString());
-        });
-
-        // Reactive effect for DELIVERED order count
-        ComponentEffect.effect(this, () -> {
-            Number count = OrderSignals.getDeliveredOrderCountSignal().value();
-            deliveredCountValue.setText(count.toString());
-        });
-
-        // Reactive effect for today's orders grid
-        ComponentEffect.effect(this, () -> {
-            List<ValueSignal<Order>> orderSignals = OrderSignals.getOrdersSignal().value();
-            LocalDate today = LocalDate.now();
-
-            // Convert to orders and filter to show only today's orders
-            List<Order> todayOrders = orderSignals.stream()
-                    .map(ValueSignal::value)
-                    .filter(order -> order.getDueDate().equals(today))
-                    .toList();
+        // Counters are seeded right away, today's orders fill in while the working set loads
+        ComponentEffect.bind(loadingIndicator, Signal.not(OrderSignals.getLoadedSignal()), Component::setVisible);
+
+        // Changes within the coalescing window are applied together with a single push
+        CoalescedEffect.bind(this, OrderSignals.getTodayOrderCountSignal(),
+                count -> todayCountValue.setText(count.toString()), OrderSignalsMetrics.effect("dashboard.today-count"));
+        CoalescedEffect.bind(this, OrderSignals.getNewOrderCountSignal(),
+                count -> newCountValue.setText(count.toString()), OrderSignalsMetrics.effect("dashboard.new-count"));
+        CoalescedEffect.bind(this, OrderSignals.getReadyOrderCountSignal(),
+                count -> readyCountValue.setText(count.toString()), OrderSignalsMetrics.effect("dashboard.ready-count"));
+        CoalescedEffect.bind(this, OrderSignals.getDeliveredOrderCountSignal(),
+                count -> deliveredCountValue.setText(count.toString()), OrderSignalsMetrics.effect("dashboard.delivered-count"));
+
+        // Today's orders grid, updated row by row when today's orders change.
+        // The grid reads the shared list without copying it, so sessions only hold the visible rows
+        todayOrdersGrid.setItems(todayOrders);
+        seenChangeSequence = OrderSignals.getChangeSequence();
+        Signal<List<OrderSummary>> todayOrdersSignal = Signal.computed(
+                () -> OrderSignals.getOrdersDueOnSignal(LocalDate.now()).value());
+        CoalescedEffect.bind(this, todayOrdersSignal, orders -> updateTodayOrders(),
+                OrderSignalsMetrics.effect("dashboard.today-orders"));
+    }
 
-            todayOrdersGrid.setItems(todayOrders);
-        });
+    private void updateTodayOrders() {
+        Optional<List<OrderChange>> changes = OrderSignals.changesSince(seenChangeSequence);
+        if (changes.isPresent() && todayOrders.getDueDate().equals(LocalDate.now())) {
+            seenChangeSequence += changes.get().size();
+            todayOrders.applyChanges(changes.get());
+        } else {
+            // Too far behind the change journal, or the day has changed
+            seenChangeSequence = OrderSignals.getChangeSequence();
+            todayOrders.setDueDate(LocalDate.now());
+            todayOrders.refreshAll();
+        }
     }
 }
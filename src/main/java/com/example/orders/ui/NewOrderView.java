@@ -8,6 +8,7 @@ import com.example.orders.domain.PickupLocation;
 import com.example.orders.service.OrderService;
 import com.example.products.domain.Product;
 import com.example.products.service.ProductService;
+import com.example.shared.domain.Money;
 import com.example.shared.ui.MainLayout;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
@@ -37,12 +38,15 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Route(value = "orders/new", layout = MainLayout.class)
 @PageTitle("New Order")
 @RolesAllowed({"ADMIN", "EMPLOYEE"})
 public class NewOrderView extends VerticalLayout {
 
+    private static final int RECENT_CUSTOMERS = 10;
+
     private final OrderService orderService;
     private final ProductService productService;
     private final CustomerService customerService;
@@ -55,6 +59,9 @@ public class NewOrderView extends VerticalLayout {
     private final Checkbox paidCheckbox = new Checkbox("Paid");
     private final TextArea notesArea = new TextArea("Notes");
 
+    // Customers suggested before anything is typed, loaded when first shown
+    private List<Customer> recentCustomers;
+
     // Order items
     private final List<OrderItem> orderItems = new ArrayList<>();
     private final Grid<OrderItem> itemsGrid = new Grid<>(OrderItem.class, false);
@@ -95,8 +102,10 @@ public class NewOrderView extends VerticalLayout {
         dueDatePicker.setPlaceholder("Select due date");
         dueDatePicker.setErrorMessage("Due date is required and cannot be in the past");
 
-        // Customer selection with autocomplete
-        customerComboBox.setItems(customerService.findAll());
+        // Customer selection with autocomplete; customers are searched on the server a page
+        // at a time, so opening the form does not depend on the number of customers
+        customerComboBox.setItems(query -> fetchCustomers(
+                query.getFilter().orElse(""), query.getOffset(), query.getLimit()));
         customerComboBox.setItemLabelGenerator(Customer::getName);
         customerComboBox.setPlaceholder("Select or search customer");
         customerComboBox.setRequired(true);
@@ -129,6 +138,16 @@ public class NewOrderView extends VerticalLayout {
         return form;
     }
 
+    private Stream<Customer> fetchCustomers(String filter, int offset, int limit) {
+        if (filter.isBlank()) {
+            if (recentCustomers == null) {
+                recentCustomers = orderService.findRecentCustomers(RECENT_CUSTOMERS);
+            }
+            return recentCustomers.stream().skip(offset).limit(limit);
+        }
+        return customerService.search(filter, offset, limit).stream();
+    }
+
     private VerticalLayout createOrderItemsSection() {
         VerticalLayout section = new VerticalLayout();
         section.setPadding(false);
@@ -160,17 +179,10 @@ public class NewOrderView extends VerticalLayout {
                 .setHeader("Quantity")
                 .setAutoWidth(true);
         itemsGrid.addColumn(item -> item.getPricePerUnit() != null ?
-                "$" + item.getPricePerUnit() : "$0.00")
+                item.getPricePerUnit().toString() : Money.ZERO.toString())
                 .setHeader("Price/Unit")
                 .setAutoWidth(true);
-        itemsGrid.addColumn(item -> {
-            if (item.getPricePerUnit() != null) {
-                BigDecimal total = item.getPricePerUnit()
-                        .multiply(BigDecimal.valueOf(item.getQuantity()));
-                return "$" + total;
-            }
-            return "$0.00";
-        })
+        itemsGrid.addColumn(item -> Money.format(item.subtotalCents()))
                 .setHeader("Subtotal")
                 .setAutoWidth(true);
         itemsGrid.addColumn(OrderItem::getCustomizationSpecs)
@@ -199,7 +211,7 @@ public class NewOrderView extends VerticalLayout {
         ComboBox<Product> productComboBox = new ComboBox<>("Product");
         productComboBox.setItems(productService.findAvailableProducts());
         productComboBox.setItemLabelGenerator(product ->
-                product.getName() + " - $" + product.getPrice());
+                product.getName() + " - " + product.getPrice());
         productComboBox.setWidthFull();
 
         IntegerField quantityField = new IntegerField("Quantity");
@@ -276,20 +288,18 @@ public class NewOrderView extends VerticalLayout {
     }
 
     private void recalculateTotal() {
-        BigDecimal subtotal = orderItems.stream()
-                .map(item -> item.getPricePerUnit()
-                        .multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal discount = BigDecimal.valueOf(
-                discountField.getValue() != null ? discountField.getValue() : 0);
-
-        BigDecimal total = subtotal.subtract(discount);
-        if (total.compareTo(BigDecimal.ZERO) < 0) {
-            total = BigDecimal.ZERO;
+        long subtotal = 0;
+        for (OrderItem item : orderItems) {
+            subtotal += item.subtotalCents();
         }
+        long total = Math.max(0, subtotal - discount().cents());
+
+        totalLabel.setText("Total: " + Money.format(total));
+    }
 
-        totalLabel.setText("Total: $" + total);
+    private Money discount() {
+        return discountField.getValue() != null
+                ? Money.of(BigDecimal.valueOf(discountField.getValue())) : Money.ZERO;
     }
 
     private void saveOrder() {
@@ -323,8 +333,7 @@ public class NewOrderView extends VerticalLayout {
             order.setDueDate(dueDatePicker.getValue());
             order.setCustomer(customerComboBox.getValue());
             order.setPickupLocation(pickupLocationComboBox.getValue());
-            order.setDiscount(BigDecimal.valueOf(
-                    discountField.getValue() != null ? discountField.getValue() : 0));
+            order.setDiscount(discount());
             order.setPaid(paidCheckbox.getValue());
             order.setNotes(notesArea.getValue());
             order.setItems(orderItems);
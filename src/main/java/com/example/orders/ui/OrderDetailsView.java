@@ -4,6 +4,7 @@ import com.example.orders.domain.Order;
 import com.example.orders.domain.OrderItem;
 import com.example.orders.domain.OrderState;
 import com.example.orders.service.OrderService;
+import com.example.shared.domain.Money;
 import com.example.shared.ui.MainLayout;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
@@ -25,7 +26,6 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import jakarta.annotation.security.RolesAllowed;
 
-import java.math.BigDecimal;
 
 @Route(value = "orders/details", layout = MainLayout.class)
 @PageTitle("Order Details")
@@ -132,17 +132,10 @@ public class OrderDetailsView extends VerticalLayout implements HasUrlParameter<
                 .setHeader("Quantity")
                 .setAutoWidth(true);
         itemsGrid.addColumn(item -> item.getPricePerUnit() != null ?
-                "$" + item.getPricePerUnit() : "$0.00")
+                item.getPricePerUnit().toString() : Money.ZERO.toString())
                 .setHeader("Price/Unit")
                 .setAutoWidth(true);
-        itemsGrid.addColumn(item -> {
-            if (item.getPricePerUnit() != null) {
-                BigDecimal total = item.getPricePerUnit()
-                        .multiply(BigDecimal.valueOf(item.getQuantity()));
-                return "$" + total;
-            }
-            return "$0.00";
-        })
+        itemsGrid.addColumn(item -> Money.format(item.subtotalCents()))
                 .setHeader("Subtotal")
                 .setAutoWidth(true);
         itemsGrid.addColumn(OrderItem::getCustomizationSpecs)
@@ -187,11 +180,11 @@ public class OrderDetailsView extends VerticalLayout implements HasUrlParameter<
         stateField.setValue(currentOrder.getState().toString());
         pickupLocationField.setValue(currentOrder.getPickupLocation().toString());
         discountField.setValue(currentOrder.getDiscount() != null ?
-                "$" + currentOrder.getDiscount() : "$0.00");
+                currentOrder.getDiscount().toString() : Money.ZERO.toString());
         paidField.setValue(currentOrder.isPaid() ? "Yes" : "No");
         notesField.setValue(currentOrder.getNotes() != null ? currentOrder.getNotes() : "");
         totalField.setValue(currentOrder.getTotalPrice() != null ?
-                "$" + currentOrder.getTotalPrice() : "$0.00");
+                currentOrder.getTotalPrice().toString() : Money.ZERO.toString());
     }
 
     private void displayOrderItems() {
@@ -0,0 +1,215 @@
+package com.example.orders.ui;
+
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderFilter;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderSpecifications;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.signals.OrderChange;
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Lazy data provider for the order list that reads one page at a time from the
+ * database, filtered with {@link OrderSpecifications} and sorted by due date or id.
+ * <p>
+ * Pages are fetched with keyset pagination: each page continues after the last
+ * row of the previous one instead of skipping rows with an offset. The last row
+ * of every fetched page is remembered, so scrolling back and forth reuses those
+ * positions and a jump further down only walks forward from the closest one.
+ * Only the sort key of those rows is kept, and only for a bounded number of
+ * positions, so the memory held per session does not grow with the number of orders.
+ */
+class OrderListDataProvider extends AbstractBackEndDataProvider<OrderSummary, Void> {
+
+    static final String SORT_DUE_DATE = "dueDate";
+    static final String SORT_ID = "id";
+
+    // Largest number of rows read at once when walking forward to an unknown offset
+    private static final int MAX_SKIP = 500;
+
+    // Positions remembered at most; those farthest from where the grid is are dropped first
+    static final int MAX_CURSORS = 64;
+
+    private final OrderRepository orderRepository;
+
+    private OrderFilter filter = OrderFilter.ALL;
+
+    private PageSort sort = PageSort.DEFAULT;
+
+    // Offset -> sort key of the last row before that offset, for the current filter and sort
+    private final TreeMap<Integer, Cursor> cursors = new TreeMap<>();
+
+    OrderListDataProvider(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    OrderFilter getFilter() {
+        return filter;
+    }
+
+    void setFilter(OrderFilter filter) {
+        if (!filter.equals(this.filter)) {
+            this.filter = filter;
+            refreshAll();
+        }
+    }
+
+    @Override
+    public Object getId(OrderSummary item) {
+        return item.id();
+    }
+
+    @Override
+    public void refreshAll() {
+        cursors.clear();
+        super.refreshAll();
+    }
+
+    /**
+     * Update the grid for changes made to the shared order list. Rows that stay in
+     * place are refreshed one by one; changes that add, remove or move matching
+     * rows require reloading the visible range. Evictions are skipped, as the rows
+     * are read from the database, where the evicted orders are still unchanged.
+     */
+    void applyChanges(List<OrderChange> changes) {
+        List<OrderSummary> updated = new ArrayList<>();
+        for (OrderChange change : changes) {
+            if (change.evicted()) {
+                continue;
+            }
+            boolean matchedBefore = change.before() != null && filter.matches(change.before());
+            boolean matchesAfter = change.after() != null && filter.matches(change.after());
+            if (matchedBefore && matchesAfter && sort.samePosition(change.before(), change.after())) {
+                updated.add(change.after());
+            } else if (matchedBefore || matchesAfter) {
+                refreshAll();
+                return;
+            }
+        }
+        updated.forEach(this::refreshItem);
+    }
+
+    @Override
+    protected Stream<OrderSummary> fetchFromBackEnd(Query<OrderSummary, Void> query) {
+        PageSort requestedSort = PageSort.of(query.getSortOrders());
+        if (!requestedSort.equals(sort)) {
+            sort = requestedSort;
+            cursors.clear();
+        }
+        return fetchPage(query.getOffset(), query.getLimit()).stream();
+    }
+
+    @Override
+    protected int sizeInBackEnd(Query<OrderSummary, Void> query) {
+        return (int) orderRepository.count(OrderSpecifications.matching(filter));
+    }
+
+    private List<OrderSummary> fetchPage(int offset, int limit) {
+        Map.Entry<Integer, Cursor> known = cursors.floorEntry(offset);
+        int position = known != null ? known.getKey() : 0;
+        Cursor cursor = known != null ? known.getValue() : null;
+
+        // Walk forward from the closest known position when the grid jumps ahead
+        while (position < offset) {
+            int step = Math.min(offset - position, MAX_SKIP);
+            List<OrderSummary> skipped = fetchAfter(cursor, step);
+            if (skipped.isEmpty()) {
+                return List.of();
+            }
+            position += skipped.size();
+            cursor = Cursor.of(skipped.getLast());
+            remember(position, cursor, offset);
+            if (skipped.size() < step) {
+                return List.of();
+            }
+        }
+
+        List<OrderSummary> page = fetchAfter(cursor, limit);
+        if (!page.isEmpty()) {
+            remember(offset + page.size(), Cursor.of(page.getLast()), offset);
+        }
+        return page;
+    }
+
+    private void remember(int position, Cursor cursor, int currentOffset) {
+        cursors.put(position, cursor);
+        if (cursors.size() > MAX_CURSORS) {
+            int first = cursors.firstKey();
+            int last = cursors.lastKey();
+            cursors.remove(currentOffset - first > last - currentOffset ? first : last);
+        }
+    }
+
+    int getCursorCount() {
+        return cursors.size();
+    }
+
+    private List<OrderSummary> fetchAfter(Cursor cursor, int limit) {
+        Specification<Order> criteria = OrderSpecifications.matching(filter);
+        if (cursor != null) {
+            criteria = criteria.and(sort.after(cursor));
+        }
+        return orderRepository.findSummaries(criteria, sort.toSort(), limit);
+    }
+
+    /**
+     * The columns a page continues after, for both sort orders.
+     */
+    private record Cursor(LocalDate dueDate, Long id) {
+
+        static Cursor of(OrderSummary row) {
+            return new Cursor(row.dueDate(), row.id());
+        }
+    }
+
+    /**
+     * Sort order of the list: by due date (then id) or by id alone.
+     */
+    private record PageSort(boolean byId, boolean descending) {
+
+        static final PageSort DEFAULT = new PageSort(false, false);
+
+        static PageSort of(List<QuerySortOrder> sortOrders) {
+            if (sortOrders.isEmpty()) {
+                return DEFAULT;
+            }
+            QuerySortOrder first = sortOrders.getFirst();
+            return new PageSort(SORT_ID.equals(first.getSorted()),
+                    first.getDirection() == SortDirection.DESCENDING);
+        }
+
+        Sort toSort() {
+            Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+            return byId ? Sort.by(direction, "id") : Sort.by(direction, "dueDate", "id");
+        }
+
+        /**
+         * Rows that come after the given row in this sort order.
+         */
+        Specification<Order> after(Cursor row) {
+            if (byId) {
+                return descending ? OrderSpecifications.beforeId(row.id()) : OrderSpecifications.afterId(row.id());
+            }
+            return descending
+                    ? OrderSpecifications.beforeDueDateAndId(row.dueDate(), row.id())
+                    : OrderSpecifications.afterDueDateAndId(row.dueDate(), row.id());
+        }
+
+        boolean samePosition(OrderSummary before, OrderSummary after) {
+            return byId || Objects.equals(before.dueDate(), after.dueDate());
+        }
+    }
+}
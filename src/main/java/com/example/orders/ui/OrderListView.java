@@ -1,13 +1,15 @@
 package com.example.orders.ui;
 
-import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderFilter;
 import com.example.orders.domain.OrderRepository;
 import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.signals.OrderChange;
 import com.example.orders.signals.OrderSignals;
+import com.example.orders.signals.OrderSignalsMetrics;
+import com.example.shared.ui.CoalescedEffect;
 import com.example.shared.ui.MainLayout;
-import com.vaadin.flow.component.ComponentEffect;
 import com.vaadin.flow.component.UI;
-import com.vaadin.signals.ValueSignal;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
@@ -24,14 +26,14 @@ import jakarta.annotation.security.RolesAllowed;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Route(value = "orders", layout = MainLayout.class)
 @PageTitle("Order List")
 @RolesAllowed({"ADMIN", "EMPLOYEE"})
 public class OrderListView extends VerticalLayout {
 
-    private final OrderRepository orderRepository;
+    private final OrderListDataProvider dataProvider;
 
     // Filters (package-protected for UI unit testing)
     final ComboBox<OrderState> stateFilter = new ComboBox<>("Filter by State");
@@ -42,7 +44,7 @@ public class OrderListView extends VerticalLayout {
     final Button newOrderButton = new Button("New Order");
 
     // Grid (package-protected for UI unit testing)
-    final Grid<Order> grid = new Grid<>(Order.class, false);
+    final Grid<OrderSummary> grid = new Grid<>(OrderSummary.class, false);
 
     // Cached filter values
     private OrderState currentStateFilter = null;
@@ -50,11 +52,12 @@ public class OrderListView extends VerticalLayout {
     private LocalDate currentToDate = null;
     private String currentCustomerSearch = "";
 
-    public OrderListView(OrderRepository orderRepository) {
-        this.orderRepository = orderRepository;
+    // Last change to the shared order list that the grid has been updated for
+    private long seenChangeSequence;
 
-        // Initialize signals
-        OrderSignals.refreshAll(orderRepository);
+    public OrderListView(OrderRepository orderRepository) {
+        // Rows are read from the database; the signals only report which orders changed
+        this.dataProvider = new OrderListDataProvider(orderRepository);
 
         setSizeFull();
         setPadding(true);
@@ -129,63 +132,58 @@ public class OrderListView extends VerticalLayout {
     private void configureGrid() {
         grid.setSizeFull();
 
-        grid.addColumn(Order::getId).setHeader("ID").setWidth("80px").setSortable(true);
-        grid.addColumn(order -> order.getCustomer() != null ?
-                order.getCustomer().getName() : "N/A")
-                .setHeader("Customer")
-                .setSortable(true);
-        grid.addColumn(Order::getDueDate).setHeader("Due Date").setSortable(true);
-        grid.addColumn(Order::getState).setHeader("Status").setSortable(true);
-        grid.addColumn(order -> order.getTotalPrice() != null ?
-                "$" + order.getTotalPrice() : "$0.00")
-                .setHeader("Total")
-                .setSortable(true);
-        grid.addColumn(Order::getPickupLocation)
-                .setHeader("Pickup Location")
-                .setSortable(true);
-        grid.addColumn(order -> order.isPaid() ? "Yes" : "No")
-                .setHeader("Paid")
-                .setSortable(true);
+        // Rows are loaded page by page from the database, which can sort by id and due date
+        grid.addColumn(OrderSummary::id).setHeader("ID").setWidth("80px")
+                .setSortProperty(OrderListDataProvider.SORT_ID);
+        grid.addColumn(order -> order.customerName() != null ?
+                order.customerName() : "N/A")
+                .setHeader("Customer");
+        grid.addColumn(OrderSummary::dueDate).setHeader("Due Date")
+                .setSortProperty(OrderListDataProvider.SORT_DUE_DATE);
+        grid.addColumn(OrderSummary::state).setHeader("Status");
+        grid.addColumn(OrderSummary::formattedTotal)
+                .setHeader("Total");
+        grid.addColumn(OrderSummary::pickupLocation)
+                .setHeader("Pickup Location");
+        grid.addColumn(order -> order.paid() ? "Yes" : "No")
+                .setHeader("Paid");
+        grid.setItems(dataProvider);
 
         // Navigate to order details on row click
         grid.addItemClickListener(event -> {
             if (event.getItem() != null) {
-                UI.getCurrent().navigate(OrderDetailsView.class, event.getItem().getId());
+                UI.getCurrent().navigate(OrderDetailsView.class, event.getItem().id());
             }
         });
     }
 
     private void setupReactiveUpdates() {
-        // Reactive effect to update grid when orders change
-        ComponentEffect.effect(this, () -> {
-            List<ValueSignal<Order>> orderSignals = OrderSignals.getOrdersSignal().value();
-            List<Order> allOrders = orderSignals.stream()
-                    .map(ValueSignal::value)
-                    .toList();
-            applyFiltersToOrders(allOrders);
-        });
+        // Update only the affected rows when orders change; a burst of changes within the
+        // coalescing window is applied in one pass
+        seenChangeSequence = OrderSignals.getChangeSequence();
+        CoalescedEffect.bind(this, OrderSignals.getChangeSequenceSignal(), this::applyChangesUpTo,
+                OrderSignalsMetrics.effect("order-list.rows"));
     }
 
-    private void applyFilters() {
-        List<ValueSignal<Order>> orderSignals = OrderSignals.getOrdersSignal().value();
-        List<Order> allOrders = orderSignals.stream()
-                .map(ValueSignal::value)
-                .toList();
-        applyFiltersToOrders(allOrders);
+    private void applyChangesUpTo(Double value) {
+        long sequence = value.longValue();
+        if (sequence == seenChangeSequence) {
+            return;
+        }
+        Optional<List<OrderChange>> changes = OrderSignals.changesSince(seenChangeSequence);
+        if (changes.isPresent()) {
+            seenChangeSequence += changes.get().size();
+            dataProvider.applyChanges(changes.get());
+        } else {
+            // Too far behind the change journal
+            seenChangeSequence = sequence;
+            dataProvider.refreshAll();
+        }
     }
 
-    private void applyFiltersToOrders(List<Order> orders) {
-        List<Order> filtered = orders.stream()
-                .filter(order -> currentStateFilter == null || order.getState() == currentStateFilter)
-                .filter(order -> currentFromDate == null || !order.getDueDate().isBefore(currentFromDate))
-                .filter(order -> currentToDate == null || !order.getDueDate().isAfter(currentToDate))
-                .filter(order -> currentCustomerSearch.isEmpty() ||
-                        (order.getCustomer() != null &&
-                                order.getCustomer().getName().toLowerCase()
-                                        .contains(currentCustomerSearch.toLowerCase())))
-                .collect(Collectors.toList());
-
-        grid.setItems(filtered);
+    private void applyFilters() {
+        dataProvider.setFilter(new OrderFilter(
+                currentStateFilter, currentFromDate, currentToDate, currentCustomerSearch));
     }
 
     private void clearFilters() {
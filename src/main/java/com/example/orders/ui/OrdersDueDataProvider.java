@@ -0,0 +1,106 @@
+package com.example.orders.ui;
+
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.signals.OrderChange;
+import com.example.orders.signals.OrderSignals;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.signals.Signal;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory data provider for the orders due on one day, read from the shared
+ * {@link OrderSignals#getOrdersDueOnSignal(LocalDate)} list without copying it.
+ * <p>
+ * Instead of replacing the items on every change, which resends all visible rows,
+ * changes are applied row by row: an order that is updated in place refreshes only
+ * its own row, while orders entering or leaving the day reload the visible range.
+ */
+class OrdersDueDataProvider extends ListDataProvider<OrderSummary> {
+
+    private final SharedOrders orders;
+
+    OrdersDueDataProvider(LocalDate dueDate) {
+        this(new SharedOrders(dueDate));
+    }
+
+    private OrdersDueDataProvider(SharedOrders orders) {
+        super(orders);
+        this.orders = orders;
+    }
+
+    LocalDate getDueDate() {
+        return orders.dueDate;
+    }
+
+    /**
+     * Show the orders due on another day from the next {@link #refreshAll()}.
+     */
+    void setDueDate(LocalDate dueDate) {
+        orders.dueDate = dueDate;
+    }
+
+    @Override
+    public Object getId(OrderSummary item) {
+        return item.id();
+    }
+
+    @Override
+    public void refreshAll() {
+        orders.reload();
+        super.refreshAll();
+    }
+
+    /**
+     * Update the grid for changes made to the shared order list. The partition keeps its
+     * orders by id, so an order that stays on the day keeps its position and only its row
+     * is refreshed; orders added or removed require reloading the visible range.
+     */
+    void applyChanges(List<OrderChange> changes) {
+        List<OrderSummary> updated = new ArrayList<>();
+        for (OrderChange change : changes) {
+            boolean dueBefore = change.before() != null && orders.dueDate.equals(change.before().dueDate());
+            boolean dueAfter = change.after() != null && orders.dueDate.equals(change.after().dueDate());
+            if (dueBefore && dueAfter) {
+                updated.add(change.after());
+            } else if (dueBefore || dueAfter) {
+                refreshAll();
+                return;
+            }
+        }
+        orders.reload();
+        updated.forEach(this::refreshItem);
+    }
+
+    /**
+     * The current list of the shared partition, looked up again after each change.
+     */
+    private static final class SharedOrders extends AbstractList<OrderSummary> {
+
+        private LocalDate dueDate;
+
+        private List<OrderSummary> current;
+
+        private SharedOrders(LocalDate dueDate) {
+            this.dueDate = dueDate;
+            reload();
+        }
+
+        private void reload() {
+            current = Signal.untracked(() -> OrderSignals.getOrdersDueOnSignal(dueDate).value());
+        }
+
+        @Override
+        public OrderSummary get(int index) {
+            return current.get(index);
+        }
+
+        @Override
+        public int size() {
+            return current.size();
+        }
+    }
+}
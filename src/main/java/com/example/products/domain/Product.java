@@ -1,11 +1,11 @@
 package com.example.products.domain;
 
+import com.example.shared.domain.Money;
+import com.example.shared.domain.PositiveMoney;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
@@ -24,9 +24,9 @@ public class Product {
     private String description;
 
     @NotNull
-    @Positive
+    @PositiveMoney
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    private Money price;
 
     @Column(nullable = false)
     private boolean available = true;
@@ -37,7 +37,7 @@ public class Product {
     public Product() {
     }
 
-    public Product(String name, String description, BigDecimal price, boolean available) {
+    public Product(String name, String description, Money price, boolean available) {
         this.name = name;
         this.description = description;
         this.price = price;
@@ -70,11 +70,11 @@ public class Product {
         this.description = description;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = price;
     }
 
@@ -2,6 +2,7 @@ package com.example.products.ui;
 
 import com.example.products.domain.Product;
 import com.example.products.service.ProductService;
+import com.example.shared.domain.Money;
 import com.example.shared.ui.MainLayout;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -69,8 +70,9 @@ public class ProductManagementView extends VerticalLayout {
     private void configureGrid() {
         grid.addColumn(Product::getName).setHeader("Name").setSortable(true);
         grid.addColumn(Product::getDescription).setHeader("Description");
-        grid.addColumn(product -> String.format("$%.2f", product.getPrice()))
-            .setHeader("Price").setSortable(true);
+        grid.addColumn(product -> product.getPrice() != null ? product.getPrice().toString() : "")
+            .setHeader("Price").setSortable(true)
+            .setComparator(Product::getPrice);
         grid.addColumn(product -> product.isAvailable() ? "Yes" : "No")
             .setHeader("Available");
 
@@ -110,6 +112,8 @@ public class ProductManagementView extends VerticalLayout {
             .asRequired("Price is required")
             .withValidator(price -> price != null && price.compareTo(BigDecimal.ZERO) > 0,
                 "Price must be greater than 0")
+            .withConverter(price -> price != null ? Money.of(price) : null,
+                price -> price != null ? price.toBigDecimal() : null)
             .bind(Product::getPrice, Product::setPrice);
 
         binder.forField(availableCheckbox)
@@ -0,0 +1,236 @@
+package com.example.shared.datagen;
+
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.PickupLocation;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic generator of bakery products, customers and orders for load and
+ * scale testing. Rows are written in PostgreSQL COPY text format (tab separated,
+ * {@code \N} for null) so they can be streamed straight into the tables.
+ * <p>
+ * The same seed, reference date and first ids always produce the same rows.
+ * Rows must be generated in table order (products, customers, then orders) since
+ * orders refer to the products and customers generated before them.
+ */
+public class SyntheticData {
+
+    static final String PRODUCT_COLUMNS = "id, name, description, price, available";
+
+    static final String CUSTOMER_COLUMNS = "id, name, phone, email";
+
+    static final String ORDER_COLUMNS = "id, due_date, state, customer_id, total_price, discount, paid, "
+            + "pickup_location, created_at, state_changed_at";
+
+    static final String ORDER_ITEM_COLUMNS = "order_id, product_id, quantity, price_per_unit, customization_specs";
+
+    private static final String[] FLAVOURS = {
+            "Chocolate", "Vanilla", "Red Velvet", "Lemon", "Carrot", "Strawberry", "Almond", "Hazelnut",
+            "Caramel", "Raspberry", "Coffee", "Pistachio", "Coconut", "Blueberry", "Cinnamon", "Matcha"};
+
+    private static final String[] GOODS = {
+            "Cake", "Cupcakes (dozen)", "Cookies (dozen)", "Croissant", "Muffin", "Tart", "Cheesecake",
+            "Brownies (box)", "Macarons (box)", "Roll", "Loaf", "Danish", "Eclair", "Pie", "Scones (box)"};
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra", "Mark", "Ashley", "Paul", "Emily"};
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"};
+
+    // Share of orders with 1, 2, 3, ... items, in percent; the last bucket covers 6 to 12 items
+    private static final int[] ITEM_COUNT_PERCENTAGES = {45, 25, 14, 7, 4, 5};
+
+    private final Random random;
+    private final LocalDate referenceDate;
+    private final int daysBack;
+    private final int daysAhead;
+
+    // Prices of the generated products in cents, indexed from the first product id
+    private long[] productPrices = new long[0];
+    private long firstProductId;
+    private int customerCount;
+    private long firstCustomerId;
+
+    /**
+     * @param seed          seed of all random choices
+     * @param referenceDate the "today" of the generated data
+     * @param daysBack      how many days of order history before the reference date to generate
+     * @param daysAhead     how many days of future orders after the reference date to generate
+     */
+    public SyntheticData(long seed, LocalDate referenceDate, int daysBack, int daysAhead) {
+        this.random = new Random(seed);
+        this.referenceDate = referenceDate;
+        this.daysBack = daysBack;
+        this.daysAhead = daysAhead;
+    }
+
+    /**
+     * Generate {@code count} products with ids starting at {@code firstId}.
+     */
+    public void products(long firstId, int count, StringBuilder out) {
+        firstProductId = firstId;
+        productPrices = new long[count];
+        for (int i = 0; i < count; i++) {
+            String flavour = FLAVOURS[random.nextInt(FLAVOURS.length)];
+            String goods = GOODS[random.nextInt(GOODS.length)];
+            // Whole or half dollars: $20 to $80 for cakes, $2 to $40 for everything else
+            boolean cake = goods.endsWith("Cake");
+            long price = cake ? 2000 + 50L * random.nextInt(121) : 200 + 50L * random.nextInt(77);
+            productPrices[i] = price;
+            row(out, firstId + i, flavour + " " + goods + " #" + (i + 1),
+                    flavour.toLowerCase(Locale.ROOT) + " " + goods.toLowerCase(Locale.ROOT),
+                    decimal(price), random.nextInt(10) != 0);
+        }
+    }
+
+    /**
+     * Generate {@code count} customers with ids starting at {@code firstId}. May be called
+     * repeatedly for consecutive batches of ids.
+     */
+    public void customers(long firstId, int count, StringBuilder out) {
+        if (customerCount == 0) {
+            firstCustomerId = firstId;
+        } else if (firstId != firstCustomerId + customerCount) {
+            throw new IllegalArgumentException("Customer ids must continue at " + (firstCustomerId + customerCount));
+        }
+        customerCount += count;
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            long id = firstId + i;
+            String email = random.nextInt(10) < 7
+                    ? (firstName + "." + lastName + id + "@example.com").toLowerCase(Locale.ROOT) : null;
+            row(out, id, firstName + " " + lastName, String.format("+1-555-%07d", random.nextInt(10_000_000)), email);
+        }
+    }
+
+    /**
+     * Generate {@code count} orders with ids starting at {@code firstId}, and their items.
+     * Requires products and customers to have been generated first.
+     */
+    public void orders(long firstId, int count, StringBuilder orders, StringBuilder items) {
+        if (productPrices.length == 0 || customerCount == 0) {
+            throw new IllegalStateException("Generate products and customers before orders");
+        }
+        for (int i = 0; i < count; i++) {
+            order(firstId + i, orders, items);
+        }
+    }
+
+    private void order(long id, StringBuilder orders, StringBuilder items) {
+        LocalDate dueDate = dueDate();
+        OrderState state = state(dueDate);
+        // Regular customers order much more often than others
+        double skew = random.nextDouble();
+        long customerId = firstCustomerId + (long) (customerCount * skew * skew);
+
+        long subtotal = 0;
+        int itemCount = itemCount();
+        for (int i = 0; i < itemCount; i++) {
+            int product = random.nextInt(productPrices.length);
+            int quantity = random.nextInt(10) < 8 ? 1 + random.nextInt(3) : 4 + random.nextInt(9);
+            long price = productPrices[product];
+            subtotal += price * quantity;
+            String customization = random.nextInt(5) == 0
+                    ? "Happy Birthday " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] : null;
+            row(items, id, firstProductId + product, quantity, decimal(price), customization);
+        }
+        // One order in ten gets a discount of 5 to 20 percent
+        long discount = random.nextInt(10) == 0 ? subtotal * (5 + random.nextInt(16)) / 100 : 0;
+
+        LocalDateTime createdAt = dueDate.minusDays(1 + random.nextInt(14)).atTime(8 + random.nextInt(10),
+                random.nextInt(60));
+        LocalDateTime stateChangedAt = state == OrderState.NEW ? createdAt : dueDate.atTime(7, 0);
+        boolean paid = state == OrderState.DELIVERED || random.nextInt(3) == 0;
+        PickupLocation pickupLocation = random.nextInt(4) == 0
+                ? PickupLocation.PRODUCTION_FACILITY : PickupLocation.STOREFRONT;
+
+        row(orders, id, dueDate, state, customerId, decimal(Math.max(0, subtotal - discount)), decimal(discount),
+                paid, pickupLocation, createdAt, stateChangedAt);
+    }
+
+    /**
+     * Due dates spread over the history and the coming days, with twice as many on weekends.
+     */
+    private LocalDate dueDate() {
+        while (true) {
+            LocalDate date = referenceDate.plusDays(random.nextInt(daysBack + daysAhead + 1) - daysBack);
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (weekend || random.nextBoolean()) {
+                return date;
+            }
+        }
+    }
+
+    /**
+     * Past orders are finished, upcoming ones mostly new, with the next couple of days partly ready.
+     */
+    private OrderState state(LocalDate dueDate) {
+        int percent = random.nextInt(100);
+        if (dueDate.isBefore(referenceDate)) {
+            return percent < 95 ? OrderState.DELIVERED : OrderState.CANCELLED;
+        }
+        if (percent < 3) {
+            return OrderState.CANCELLED;
+        }
+        if (dueDate.equals(referenceDate)) {
+            return percent < 40 ? OrderState.DELIVERED : percent < 80 ? OrderState.READY : OrderState.NEW;
+        }
+        return !dueDate.isAfter(referenceDate.plusDays(2)) && percent < 30 ? OrderState.READY : OrderState.NEW;
+    }
+
+    private int itemCount() {
+        int percent = random.nextInt(100);
+        for (int i = 0; i < ITEM_COUNT_PERCENTAGES.length - 1; i++) {
+            percent -= ITEM_COUNT_PERCENTAGES[i];
+            if (percent < 0) {
+                return i + 1;
+            }
+        }
+        return ITEM_COUNT_PERCENTAGES.length + random.nextInt(7);
+    }
+
+    private static String decimal(long cents) {
+        return cents / 100 + (cents % 100 < 10 ? ".0" : ".") + cents % 100;
+    }
+
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                out.append("\\N");
+            } else if (value instanceof String text) {
+                escape(text, out);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+
+    private static void escape(String text, StringBuilder out) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+}
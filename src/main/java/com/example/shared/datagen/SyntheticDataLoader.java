@@ -0,0 +1,155 @@
+package com.example.shared.datagen;
+
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.signals.OrderSignals;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+/**
+ * Bulk-loads synthetic bakery data on startup when the {@code datagen} profile is active,
+ * e.g. {@code ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen}.
+ * <p>
+ * Rows come from {@link SyntheticData} and are streamed into the tables with PostgreSQL
+ * COPY, one statement per batch. The data is added to what is already in the database;
+ * for reproducible runs, start from an empty database and pass a fixed
+ * {@code bakery.datagen.reference-date}. Orders are copied with
+ * {@code session_replication_role = replica}, set per transaction, so the order change feed
+ * trigger does not fire for them while it keeps firing for all other writers; other running
+ * nodes only see the new orders after their next full refresh. Setting it requires a
+ * superuser, or on PostgreSQL 15 and later {@code GRANT SET ON PARAMETER session_replication_role}.
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    private final DataSource dataSource;
+    private final OrderRepository orderRepository;
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final int products;
+    private final int customers;
+    private final int orders;
+    private final int daysBack;
+    private final int daysAhead;
+    private final int batchSize;
+
+    public SyntheticDataLoader(DataSource dataSource,
+                               OrderRepository orderRepository,
+                               @Value("${bakery.datagen.seed:42}") long seed,
+                               @Value("${bakery.datagen.reference-date:}") String referenceDate,
+                               @Value("${bakery.datagen.products:500}") int products,
+                               @Value("${bakery.datagen.customers:200000}") int customers,
+                               @Value("${bakery.datagen.orders:5000000}") int orders,
+                               @Value("${bakery.datagen.days-back:730}") int daysBack,
+                               @Value("${bakery.datagen.days-ahead:60}") int daysAhead,
+                               @Value("${bakery.datagen.batch-size:10000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.orderRepository = orderRepository;
+        this.seed = seed;
+        this.referenceDate = referenceDate.isBlank() ? LocalDate.now() : LocalDate.parse(referenceDate);
+        this.products = products;
+        this.customers = customers;
+        this.orders = orders;
+        this.daysBack = daysBack;
+        this.daysAhead = daysAhead;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException, IOException {
+        log.info("Generating {} products, {} customers and {} orders with seed {}",
+                products, customers, orders, seed);
+        long start = System.nanoTime();
+        SyntheticData data = new SyntheticData(seed, referenceDate, daysBack, daysAhead);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            StringBuilder rows = new StringBuilder();
+            data.products(nextId(connection, "products"), products, rows);
+            copy(copyManager, "products", SyntheticData.PRODUCT_COLUMNS, rows);
+
+            long customerId = nextId(connection, "customers");
+            for (int done = 0; done < customers; done += batchSize) {
+                rows.setLength(0);
+                data.customers(customerId + done, Math.min(batchSize, customers - done), rows);
+                copy(copyManager, "customers", SyntheticData.CUSTOMER_COLUMNS, rows);
+            }
+
+            long orderId = nextId(connection, "orders");
+            StringBuilder items = new StringBuilder();
+            connection.setAutoCommit(false);
+            try {
+                for (int done = 0; done < orders; done += batchSize) {
+                    int count = Math.min(batchSize, orders - done);
+                    rows.setLength(0);
+                    items.setLength(0);
+                    data.orders(orderId + done, count, rows, items);
+                    // Skips the change feed trigger (and foreign key checks) for this transaction only
+                    execute(connection, "SET LOCAL session_replication_role = replica");
+                    copy(copyManager, "orders", SyntheticData.ORDER_COLUMNS, rows);
+                    copy(copyManager, "order_items", SyntheticData.ORDER_ITEM_COLUMNS, items);
+                    connection.commit();
+                    if ((done / batchSize + 1) % 50 == 0) {
+                        log.info("Generated {} of {} orders", done + count, orders);
+                    }
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+            // Rows were inserted with explicit ids, move the sequences past them
+            for (String table : new String[]{"products", "customers", "orders"}) {
+                execute(connection, "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT MAX(id) FROM " + table + "))");
+            }
+            execute(connection, "ANALYZE products, customers, orders, order_items");
+        }
+
+        log.info("Generated synthetic data in {} s", (System.nanoTime() - start) / 1_000_000_000);
+        if (OrderSignals.isInitialized()) {
+            OrderSignals.refreshAll(orderRepository, true);
+        }
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static void copy(CopyManager copyManager, String table, String columns, StringBuilder rows)
+            throws SQLException, IOException {
+        copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN", new StringReader(rows.toString()));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.shared.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money in the shop currency, held as a whole number of cents.
+ * Arithmetic is exact long arithmetic, so totals can be computed without
+ * allocating intermediate values; {@link BigDecimal} is only used at the edges,
+ * for the database columns (see {@link MoneyConverter}) and decimal input fields.
+ *
+ * @param cents the amount in cents
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * The given decimal amount, rounded half up to whole cents.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * The amount formatted for display, e.g. {@code $12.50}.
+     */
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+
+    /**
+     * Formats an amount in cents for display, e.g. {@code $12.50}.
+     */
+    public static String format(long cents) {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-$" : "$") + abs / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
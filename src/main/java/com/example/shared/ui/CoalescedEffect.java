@@ -0,0 +1,82 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentEffect;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.signals.Signal;
+
+import java.io.Serializable;
+
+/**
+ * Binds a signal to a component like {@link ComponentEffect#bind(Component, Signal, SerializableBiConsumer)},
+ * but applies changes through the {@link CoalescingScheduler} of the owner's UI, so a burst of
+ * changes is applied once with the latest value. The initial value is applied right away when
+ * the component is attached.
+ */
+public final class CoalescedEffect {
+
+    private CoalescedEffect() {
+    }
+
+    /**
+     * Notified about the coalesced updates of a binding, e.g. to measure them.
+     */
+    public interface Listener extends Serializable {
+
+        /**
+         * The signal changed; called for every change, including those coalesced into one update.
+         */
+        void triggered();
+
+        /**
+         * The signal changed while no update of the binding was pending.
+         */
+        void burstStarted();
+
+        /**
+         * The latest value has been applied to the component.
+         */
+        void applied();
+    }
+
+    public static <C extends Component, T> Registration bind(C owner, Signal<T> signal,
+                                                              SerializableConsumer<T> setter) {
+        return bind(owner, signal, setter, null);
+    }
+
+    /**
+     * @param listener notified of each burst and update after the initial value, may be null
+     */
+    public static <C extends Component, T> Registration bind(C owner, Signal<T> signal,
+                                                              SerializableConsumer<T> setter, Listener listener) {
+        Object key = new Object();
+        boolean[] attached = {false};
+        boolean[] scheduled = {false};
+        return ComponentEffect.effect(owner, () -> {
+            T value = signal.value();
+            if (!attached[0]) {
+                attached[0] = true;
+                setter.accept(value);
+                return;
+            }
+            if (listener != null) {
+                listener.triggered();
+            }
+            if (!scheduled[0]) {
+                scheduled[0] = true;
+                if (listener != null) {
+                    listener.burstStarted();
+                }
+            }
+            owner.getUI().ifPresent(ui -> CoalescingScheduler.get(ui).schedule(key, () -> {
+                scheduled[0] = false;
+                setter.accept(Signal.untracked(signal::value));
+                if (listener != null) {
+                    listener.applied();
+                }
+            }));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collapses the UI updates of one UI that are scheduled within a short window into a
+ * single {@link UI#access} and with it a single push.
+ * <p>
+ * Each update has a key; an update scheduled while another one with the same key is still
+ * pending replaces it, so a burst of changes is applied once, with the latest state. The
+ * updates are expected to read that state when they run rather than capturing it.
+ * <p>
+ * The window is configured with {@code bakery.ui.coalescing-window}; a zero window applies
+ * every update right away.
+ */
+public final class CoalescingScheduler {
+
+    private static final Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static volatile Duration window = Duration.ofMillis(150);
+
+    private final UI ui;
+
+    // Guarded by the session lock
+    private final Map<Object, Runnable> pending = new LinkedHashMap<>();
+
+    private CoalescingScheduler(UI ui) {
+        this.ui = ui;
+    }
+
+    public static void setWindow(Duration window) {
+        CoalescingScheduler.window = window;
+    }
+
+    /**
+     * Get the scheduler of the given UI, creating it on first use. Must be called with the
+     * session locked.
+     */
+    public static CoalescingScheduler get(UI ui) {
+        CoalescingScheduler scheduler = ComponentUtil.getData(ui, CoalescingScheduler.class);
+        if (scheduler == null) {
+            scheduler = new CoalescingScheduler(ui);
+            ComponentUtil.setData(ui, CoalescingScheduler.class, scheduler);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Run the update at the end of the current window, unless an update with the same key
+     * is scheduled again before that. Must be called with the session locked.
+     */
+    public void schedule(Object key, Runnable update) {
+        Duration delay = window;
+        if (delay.isZero()) {
+            pending.remove(key);
+            update.run();
+            return;
+        }
+        boolean idle = pending.isEmpty();
+        pending.put(key, update);
+        if (idle) {
+            Executor delayed = CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS, executor);
+            delayed.execute(this::access);
+        }
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    private void access() {
+        try {
+            ui.access(this::flush);
+        } catch (UIDetachedException e) {
+            // The user has left, nothing to update
+        }
+    }
+
+    /**
+     * Run the pending updates. Must be called with the session locked.
+     */
+    void flush() {
+        List<Runnable> updates = new ArrayList<>(pending.values());
+        pending.clear();
+        updates.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Applies the configured window of the {@link CoalescingScheduler}.
+ */
+@Component
+public class CoalescingSchedulerInitializer implements VaadinServiceInitListener {
+
+    private final Duration window;
+
+    public CoalescingSchedulerInitializer(@Value("${bakery.ui.coalescing-window:PT0.15S}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        CoalescingScheduler.setWindow(window);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.communication.AtmospherePushConnection;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Push connection that measures each flush of pending UI changes to the browser:
+ * <ul>
+ * <li>{@value #FLUSH}: time to collect the changes and hand the message to the connection</li>
+ * <li>{@value #FLUSH_SIZE}: size of the pushed message in characters</li>
+ * </ul>
+ * Pushes without any connected client send nothing and are not measured.
+ * Installed for every UI by {@link MeteredPushConnectionFactory}.
+ */
+public class MeteredPushConnection extends AtmospherePushConnection {
+
+    public static final String FLUSH = "bakery.push.flush";
+
+    public static final String FLUSH_SIZE = "bakery.push.flush.size";
+
+    // Global registry, as the connection is created by Vaadin and may be serialized with the session
+    private static final Timer flushTimer = Timer.builder(FLUSH)
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    private static final DistributionSummary flushSize = DistributionSummary.builder(FLUSH_SIZE)
+            .baseUnit("characters")
+            .register(Metrics.globalRegistry);
+
+    private transient boolean sent;
+
+    public MeteredPushConnection(UI ui) {
+        super(ui);
+    }
+
+    @Override
+    public void push(boolean async) {
+        long start = System.nanoTime();
+        sent = false;
+        super.push(async);
+        if (sent) {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    protected void sendMessage(String message) {
+        sent = true;
+        flushSize.record(message.length());
+        super.sendMessage(message);
+    }
+}
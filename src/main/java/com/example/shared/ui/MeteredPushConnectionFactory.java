@@ -0,0 +1,18 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.communication.PushConnection;
+import com.vaadin.flow.server.communication.PushConnectionFactory;
+
+/**
+ * Gives every UI a {@link MeteredPushConnection}. Registered as a service in
+ * {@code META-INF/services}, where Vaadin looks it up when bootstrapping a UI,
+ * before push is enabled and the connection is created.
+ */
+public class MeteredPushConnectionFactory implements PushConnectionFactory {
+
+    @Override
+    public PushConnection apply(UI ui) {
+        return new MeteredPushConnection(ui);
+    }
+}
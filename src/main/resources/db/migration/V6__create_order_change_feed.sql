@@ -0,0 +1,38 @@
+-- Change feed for propagating order changes between application nodes.
+-- Every committed change to an order is recorded with a sequence number and
+-- announced on the 'order_changes' channel as "seq,order_id,version,op".
+-- Listeners use the sequence to detect missed notifications and re-read the
+-- missing entries from this table.
+CREATE TABLE order_changes (
+    seq BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    version BIGINT,
+    deleted BOOLEAN NOT NULL DEFAULT false,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_order_changes_changed_at ON order_changes(changed_at);
+
+CREATE FUNCTION record_order_change() RETURNS trigger AS $$
+DECLARE
+    change_seq BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO order_changes (order_id, version, deleted)
+        VALUES (OLD.id, OLD.version, true)
+        RETURNING seq INTO change_seq;
+        PERFORM pg_notify('order_changes', format('%s,%s,%s,D', change_seq, OLD.id, OLD.version));
+        RETURN OLD;
+    END IF;
+
+    INSERT INTO order_changes (order_id, version, deleted)
+    VALUES (NEW.id, NEW.version, false)
+    RETURNING seq INTO change_seq;
+    PERFORM pg_notify('order_changes', format('%s,%s,%s,U', change_seq, NEW.id, NEW.version));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER orders_change_feed
+    AFTER INSERT OR UPDATE OR DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION record_order_change();
@@ -0,0 +1,5 @@
+-- Case-insensitive customer name search in the order list (LIKE '%term%' on lower(name)).
+-- A trigram index supports both prefix and substring matches, which a B-tree index cannot.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_customers_name_lower_trgm ON customers USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- Covering index for the grouped dashboard query (counts per state and due today),
+-- which can then be answered with an index-only scan.
+-- It also serves every lookup by due date, so the single-column index is no longer needed.
+CREATE INDEX idx_orders_due_date_state ON orders(due_date, state);
+
+DROP INDEX idx_orders_due_date;
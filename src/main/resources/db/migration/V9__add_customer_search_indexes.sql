@@ -0,0 +1,8 @@
+-- Unified customer search over name, email and phone (see CustomerRepository.search).
+-- Substring matches use trigram indexes; the lower(name) trigram index exists since V7.
+-- Phone numbers are matched by their digits only, so the formatting does not matter.
+CREATE INDEX idx_customers_email_lower_trgm ON customers USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX idx_customers_phone_digits_trgm ON customers USING gin (regexp_replace(phone, '[^0-9]', '', 'g') gin_trgm_ops);
+
+-- Names starting with the search term, which are ranked first
+CREATE INDEX idx_customers_name_lower_prefix ON customers (lower(name) text_pattern_ops);
@@ -142,7 +142,7 @@ class CustomerSecurityIntegrationTest {
     void employee_canSearchByName() {
         customerRepository.save(testCustomer);
 
-        List<Customer> results = customerService.searchByName("Test");
+        List<Customer> results = customerService.search("Test", CustomerService.SEARCH_LIMIT);
 
         assertEquals(1, results.size());
     }
@@ -152,7 +152,7 @@ class CustomerSecurityIntegrationTest {
     void employee_canSearchByPhone() {
         customerRepository.save(testCustomer);
 
-        List<Customer> results = customerService.searchByPhone("555");
+        List<Customer> results = customerService.search("555 12", CustomerService.SEARCH_LIMIT);
 
         assertEquals(1, results.size());
     }
@@ -162,8 +162,22 @@ class CustomerSecurityIntegrationTest {
     void employee_canSearchByEmail() {
         customerRepository.save(testCustomer);
 
-        List<Customer> results = customerService.searchByEmail("test");
+        List<Customer> results = customerService.search("test@", CustomerService.SEARCH_LIMIT);
 
         assertEquals(1, results.size());
     }
+
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    void search_ranksNamesStartingWithTermFirst() {
+        Customer other = new Customer();
+        other.setName("Another Test");
+        other.setPhone("555-9999");
+        customerRepository.save(other);
+        customerRepository.save(testCustomer);
+
+        List<Customer> results = customerService.search("test", CustomerService.SEARCH_LIMIT);
+
+        assertEquals(List.of("Test Customer", "Another Test"), results.stream().map(Customer::getName).toList());
+    }
 }
@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -152,48 +153,43 @@ class CustomerServiceTest {
     }
 
     @Test
-    void searchByName_findsMatchingCustomers() {
-        Customer customer1 = new Customer();
-        customer1.setName("John Smith");
-
-        Customer customer2 = new Customer();
-        customer2.setName("John Doe");
+    void search_matchesNameAndEmailWithOneQuery() {
+        Customer customer = new Customer();
+        customer.setName("John Smith");
 
-        when(customerRepository.findByNameContainingIgnoreCase("John"))
-                .thenReturn(Arrays.asList(customer1, customer2));
+        when(customerRepository.search("john", "john%", "%john%", "", 0, 50, 500))
+                .thenReturn(List.of(customer));
 
-        List<Customer> results = customerService.searchByName("John");
+        List<Customer> results = customerService.search(" John ", 50);
 
-        assertEquals(2, results.size());
-        verify(customerRepository).findByNameContainingIgnoreCase("John");
+        assertEquals(List.of(customer), results);
     }
 
     @Test
-    void searchByPhone_findsMatchingCustomers() {
-        Customer customer = new Customer();
-        customer.setPhone("555-1234");
+    void search_phoneNumber_matchesDigits() {
+        customerService.search("(555) 123-4", 50);
 
-        when(customerRepository.findByPhoneContaining("555"))
-                .thenReturn(Arrays.asList(customer));
+        verify(customerRepository).search(eq("(555) 123-4"), any(), any(), eq("5551234"), eq(0), eq(50), eq(500));
+    }
 
-        List<Customer> results = customerService.searchByPhone("555");
+    @Test
+    void search_escapesLikeWildcards() {
+        customerService.search("100%_off", 10);
 
-        assertEquals(1, results.size());
-        verify(customerRepository).findByPhoneContaining("555");
+        verify(customerRepository).search("100%_off", "100\\%\\_off%", "%100\\%\\_off%", "", 0, 10, 500);
     }
 
     @Test
-    void searchByEmail_findsMatchingCustomers() {
-        Customer customer = new Customer();
-        customer.setEmail("test@example.com");
-
-        when(customerRepository.findByEmailContainingIgnoreCase("example"))
-                .thenReturn(Arrays.asList(customer));
+    void search_page_readsFromOffset() {
+        customerService.search("john", 50, 50);
 
-        List<Customer> results = customerService.searchByEmail("example");
+        verify(customerRepository).search("john", "john%", "%john%", "", 50, 50, 500);
+    }
 
-        assertEquals(1, results.size());
-        verify(customerRepository).findByEmailContainingIgnoreCase("example");
+    @Test
+    void search_blankTerm_returnsNothing() {
+        assertTrue(customerService.search("  ", 50).isEmpty());
+        verifyNoInteractions(customerRepository);
     }
 
     @Test
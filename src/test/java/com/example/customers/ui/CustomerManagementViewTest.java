@@ -8,6 +8,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -100,6 +102,17 @@ class CustomerManagementViewTest {
                 view.searchField.getValueChangeMode());
     }
 
+    @Test
+    void searchField_searchesCustomers() {
+        Customer customer = new Customer();
+        customer.setName("Anna Virtanen");
+        when(customerService.search("anna", CustomerService.SEARCH_LIMIT)).thenReturn(List.of(customer));
+
+        view.searchField.setValue("anna");
+
+        assertEquals(List.of(customer), view.grid.getGenericDataView().getItems().toList());
+    }
+
     @Test
     void searchField_isClearable() {
         assertTrue(view.searchField.isClearButtonVisible());
@@ -0,0 +1,119 @@
+package com.example.orders;
+
+import com.example.customers.domain.Customer;
+import com.example.customers.domain.CustomerRepository;
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderItem;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.PickupLocation;
+import com.example.products.domain.Product;
+import com.example.products.domain.ProductRepository;
+import com.example.shared.domain.Money;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the order fetch plans.
+ * Verifies that list and detail use cases load in a fixed number of statements
+ * regardless of how many orders and items there are.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class OrderFetchPlanIntegrationTest {
+
+    private static final int ORDER_COUNT = 5;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Customer customer = new Customer();
+            customer.setName("Fetch Plan Customer " + i);
+            customer.setPhone("555-000" + i);
+            customer = customerRepository.save(customer);
+
+            Order order = new Order(LocalDate.now().plusDays(1), customer, PickupLocation.STOREFRONT);
+            order.setState(OrderState.NEW);
+            for (int j = 0; j < 2; j++) {
+                Product product = new Product();
+                product.setName("Fetch Plan Product " + i + "-" + j);
+                product.setPrice(Money.ofCents(1000));
+                product.setAvailable(true);
+                product = productRepository.save(product);
+                order.addItem(new OrderItem(product, 1, product.getPrice()));
+            }
+            orderId = orderRepository.save(order).getId();
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_loadsCustomersInSameQuery() {
+        List<Order> orders = orderRepository.findAll();
+        orders.forEach(order -> assertNotNull(order.getCustomer().getName()));
+
+        assertEquals(ORDER_COUNT, orders.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByState_loadsCustomersInSameQuery() {
+        List<Order> orders = orderRepository.findByState(OrderState.NEW);
+        orders.forEach(order -> assertNotNull(order.getCustomer().getName()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_loadsCustomerItemsAndProductsInSameQuery() {
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertNotNull(order.getCustomer().getName());
+        order.getItems().forEach(item -> assertNotNull(item.getProduct().getName()));
+
+        assertEquals(2, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithCustomerById_loadsCustomerButNotItems() {
+        Order order = orderRepository.findWithCustomerById(orderId).orElseThrow();
+        assertNotNull(order.getCustomer().getName());
+
+        assertFalse(Hibernate.isInitialized(order.getItems()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -11,6 +11,7 @@ import com.example.orders.domain.PickupLocation;
 import com.example.orders.service.OrderService;
 import com.example.products.domain.Product;
 import com.example.products.domain.ProductRepository;
+import com.example.shared.domain.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +21,6 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,7 +67,7 @@ class OrderSecurityIntegrationTest {
         // Create test product
         testProduct = new Product();
         testProduct.setName("Test Product");
-        testProduct.setPrice(new BigDecimal("10.00"));
+        testProduct.setPrice(Money.ofCents(1000));
         testProduct.setAvailable(true);
         testProduct = productRepository.save(testProduct);
 
@@ -1,21 +1,30 @@
 package com.example.orders;
 
 import com.example.customers.domain.Customer;
+import com.example.orders.domain.DashboardStats;
 import com.example.orders.domain.Order;
 import com.example.orders.domain.OrderItem;
 import com.example.orders.domain.OrderRepository;
 import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderStateCount;
+import com.example.orders.domain.OrderSummary;
 import com.example.orders.domain.PickupLocation;
+import com.example.orders.service.OrderChangedEvent;
 import com.example.orders.service.OrderService;
 import com.example.products.domain.Product;
+import com.example.shared.domain.Money;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +44,9 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -52,7 +64,7 @@ class OrderServiceTest {
         testProduct = new Product();
         testProduct.setId(1L);
         testProduct.setName("Test Product");
-        testProduct.setPrice(new BigDecimal("10.00"));
+        testProduct.setPrice(Money.ofCents(1000));
 
         testItem = new OrderItem();
         testItem.setProduct(testProduct);
@@ -69,12 +81,30 @@ class OrderServiceTest {
 
     @Test
     void createOrder_withValidData_succeeds() {
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.saveAndFlush(any(Order.class))).thenReturn(testOrder);
 
         Order created = orderService.createOrder(testOrder);
 
         assertNotNull(created);
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).saveAndFlush(testOrder);
+    }
+
+    @Test
+    void createOrder_publishesChangeEvent() {
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(42L);
+            return order;
+        });
+
+        orderService.createOrder(testOrder);
+
+        ArgumentCaptor<OrderChangedEvent> event = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        OrderSummary summary = event.getValue().toSummary();
+        assertEquals(42L, summary.id());
+        assertEquals("Test Customer", summary.customerName());
+        assertEquals(2000, summary.totalCents());
     }
 
     @Test
@@ -84,21 +114,21 @@ class OrderServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.createOrder(testOrder));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void createOrder_calculatesTotalPrice() {
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
             assertNotNull(order.getTotalPrice());
-            assertEquals(new BigDecimal("20.00"), order.getTotalPrice());
+            assertEquals(Money.ofCents(2000), order.getTotalPrice());
             return order;
         });
 
         orderService.createOrder(testOrder);
 
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).saveAndFlush(testOrder);
     }
 
     @Test
@@ -175,13 +205,13 @@ class OrderServiceTest {
     void updateOrder_withValidData_succeeds() {
         testOrder.setId(1L);
         when(orderRepository.existsById(1L)).thenReturn(true);
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        when(orderRepository.saveAndFlush(any(Order.class))).thenReturn(testOrder);
 
         Order updated = orderService.updateOrder(testOrder);
 
         assertNotNull(updated);
         verify(orderRepository).existsById(1L);
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).saveAndFlush(testOrder);
     }
 
     @Test
@@ -189,7 +219,7 @@ class OrderServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.updateOrder(testOrder));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -200,79 +230,79 @@ class OrderServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.updateOrder(testOrder));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void markReady_changesStateFromNewToReady() {
         testOrder.setId(1L);
         testOrder.setState(OrderState.NEW);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.findWithCustomerById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Order result = orderService.markReady(1L);
 
         assertEquals(OrderState.READY, result.getState());
-        verify(orderRepository, atLeastOnce()).findById(1L); // Called by service and signals
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).findWithCustomerById(1L); // Signals are updated from the saved entity, not re-read
+        verify(orderRepository).saveAndFlush(testOrder);
     }
 
     @Test
     void markReady_withNonExistingOrder_throwsException() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithCustomerById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.markReady(999L));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void markDelivered_changesStateFromReadyToDelivered() {
         testOrder.setId(1L);
         testOrder.setState(OrderState.READY);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.findWithCustomerById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Order result = orderService.markDelivered(1L);
 
         assertEquals(OrderState.DELIVERED, result.getState());
-        verify(orderRepository, atLeastOnce()).findById(1L); // Called by service and signals
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).findWithCustomerById(1L); // Signals are updated from the saved entity, not re-read
+        verify(orderRepository).saveAndFlush(testOrder);
     }
 
     @Test
     void markDelivered_withNonExistingOrder_throwsException() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithCustomerById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.markDelivered(999L));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void cancelOrder_changesStateToCancelled() {
         testOrder.setId(1L);
         testOrder.setState(OrderState.NEW);
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.findWithCustomerById(1L)).thenReturn(Optional.of(testOrder));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Order result = orderService.cancelOrder(1L);
 
         assertEquals(OrderState.CANCELLED, result.getState());
-        verify(orderRepository, atLeastOnce()).findById(1L); // Called by service and signals
-        verify(orderRepository).save(testOrder);
+        verify(orderRepository).findWithCustomerById(1L); // Signals are updated from the saved entity, not re-read
+        verify(orderRepository).saveAndFlush(testOrder);
     }
 
     @Test
     void cancelOrder_withNonExistingOrder_throwsException() {
-        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+        when(orderRepository.findWithCustomerById(999L)).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class,
                 () -> orderService.cancelOrder(999L));
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -314,4 +344,59 @@ class OrderServiceTest {
         assertEquals(3L, result);
         verify(orderRepository).countByState(OrderState.NEW);
     }
+
+    @Test
+    void getDashboardStats_combinesGroupedCountsFromOneQuery() {
+        when(orderRepository.findDashboardStats(any())).thenCallRealMethod();
+        when(orderRepository.countByStateWithDueOn(LocalDate.now())).thenReturn(List.of(
+                new OrderStateCount(OrderState.NEW, 4L, 2L),
+                new OrderStateCount(OrderState.DELIVERED, 10L, 1L)));
+
+        DashboardStats stats = orderService.getDashboardStats();
+
+        assertEquals(4, stats.newCount());
+        assertEquals(0, stats.readyCount());
+        assertEquals(10, stats.deliveredCount());
+        assertEquals(3, stats.dueTodayCount());
+        verify(orderRepository).countByStateWithDueOn(LocalDate.now());
+        verify(orderRepository, never()).countByState(any());
+    }
+
+    @Test
+    void findRecentCustomers_ranksByOrdersAmongLatestThenRecency() {
+        Customer anna = customer(1L, "Anna");
+        Customer john = customer(2L, "John");
+        Customer maria = customer(3L, "Maria");
+        // Newest order first
+        when(orderRepository.findCustomersOfLatestOrders(any()))
+                .thenReturn(List.of(maria, anna, john, maria, john, anna, john));
+
+        List<Customer> recent = orderService.findRecentCustomers(3);
+
+        // John ordered most, Maria and Anna equally often but Maria more recently
+        assertEquals(List.of(john, maria, anna), recent);
+    }
+
+    @Test
+    void serviceMethods_areTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(orderService);
+        proxyFactory.addAspect(new TimedAspect(registry));
+        OrderService timedService = proxyFactory.getProxy();
+
+        timedService.count();
+        assertThrows(IllegalArgumentException.class, () -> timedService.markReady(99L));
+
+        assertEquals(1, registry.get(OrderService.METRIC).tag("method", "count")
+                .tag("exception", "none").timer().count());
+        assertEquals(1, registry.get(OrderService.METRIC).tag("method", "markReady")
+                .tag("exception", "IllegalArgumentException").timer().count());
+    }
+
+    private Customer customer(Long id, String name) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName(name);
+        return customer;
+    }
 }
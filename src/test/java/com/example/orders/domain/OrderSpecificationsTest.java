@@ -0,0 +1,83 @@
+package com.example.orders.domain;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderSpecifications.
+ * Verifies that only the filter criteria that are set become query conditions.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderSpecificationsTest {
+
+    @Mock
+    private Root<Order> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Test
+    void emptyFilter_addsNoCondition() {
+        assertNull(OrderSpecifications.matching(OrderFilter.ALL).toPredicate(root, query, cb));
+        verifyNoInteractions(cb);
+    }
+
+    @Test
+    void stateFilter_comparesStateOnly() {
+        Path<Object> state = mock();
+        Predicate predicate = mock();
+        when(root.get("state")).thenReturn(state);
+        when(cb.equal(state, OrderState.NEW)).thenReturn(predicate);
+
+        Predicate result = OrderSpecifications.matching(new OrderFilter(OrderState.NEW, null, null, " "))
+                .toPredicate(root, query, cb);
+
+        assertSame(predicate, result);
+        verify(root, never()).join(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    void customerNameContains_escapesWildcards() {
+        Join<Object, Object> customer = mock();
+        Path<String> name = mock();
+        Expression<String> lowerName = mock();
+        when(root.getJoins()).thenReturn(Set.of());
+        when(root.join("customer", JoinType.INNER)).thenReturn(customer);
+        when(customer.<String>get("name")).thenReturn(name);
+        when(cb.lower(name)).thenReturn(lowerName);
+
+        OrderSpecifications.customerNameContains("50%_Off").toPredicate(root, query, cb);
+
+        verify(cb).like(lowerName, "%50\\%\\_off%", '\\');
+    }
+
+    @Test
+    void orderFilter_matchesCaseInsensitiveCustomerName() {
+        OrderFilter filter = new OrderFilter(null, null, null, "SMITH");
+
+        assertTrue(filter.matches(new OrderSummary(1L, 0L, "Jane Smith", LocalDate.now(),
+                OrderState.NEW, 0, PickupLocation.STOREFRONT, false)));
+        assertFalse(filter.matches(new OrderSummary(2L, 0L, "John Doe", LocalDate.now(),
+                OrderState.NEW, 0, PickupLocation.STOREFRONT, false)));
+    }
+}
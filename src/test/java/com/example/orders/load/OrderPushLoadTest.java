@@ -0,0 +1,189 @@
+package com.example.orders.load;
+
+import com.example.customers.domain.Customer;
+import com.example.customers.domain.CustomerRepository;
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderItem;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.service.OrderService;
+import com.example.orders.signals.OrderSignals;
+import com.example.orders.ui.DashboardView;
+import com.example.orders.ui.OrderListView;
+import com.example.products.domain.Product;
+import com.example.products.domain.ProductRepository;
+import com.example.shared.domain.Money;
+import com.vaadin.flow.component.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of the push fan-out of order changes to many open screens.
+ * <p>
+ * Opens headless sessions showing the dashboard and the order list (alternately),
+ * then creates orders and moves them through their states with {@link OrderService},
+ * and reports how long it takes until each session has pushed the change, and the
+ * heap retained per session. Repeated for each requested number of sessions to find
+ * where push latency starts to degrade. Needs the database like the other integration
+ * tests and only runs when requested, e.g.
+ * {@code ./mvnw test -Dtest=OrderPushLoadTest -Dbakery.load.sessions=100,500,1000}.
+ * The number of orders per run is set with {@code bakery.load.orders} (default 20).
+ */
+@SpringBootTest(properties = {"bakery.change-feed.enabled=false", "spring.jpa.show-sql=false"})
+@EnabledIfSystemProperty(named = "bakery.load.sessions", matches = "\\d+(,\\d+)*")
+class OrderPushLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPushLoadTest.class);
+
+    // Well above the coalescing window, so no session has an update pending after it
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(500);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer customer;
+
+    private Product product;
+
+    private final List<Long> createdOrderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setName("Load Test Customer");
+        customer.setPhone("555-0000");
+        customer = customerRepository.save(customer);
+
+        product = new Product();
+        product.setName("Load Test Product");
+        product.setPrice(Money.ofCents(1000));
+        product.setAvailable(true);
+        product = productRepository.save(product);
+
+        OrderSignals.refreshAll(orderRepository, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllById(createdOrderIds);
+        customerRepository.delete(customer);
+        productRepository.delete(product);
+        OrderSignals.reset();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void pushLatencyBySessionCount() {
+        int orders = Integer.getInteger("bakery.load.orders", 20);
+        List<Integer> sessionCounts = Arrays.stream(System.getProperty("bakery.load.sessions").split(","))
+                .map(Integer::valueOf)
+                .toList();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%8s %14s %10s %10s %10s %10s %10s %12s",
+                "sessions", "heap/session", "pushes/op", "p50 ms", "p95 ms", "p99 ms", "max ms", "bytes/push"));
+        for (int sessions : sessionCounts) {
+            report.add(run(sessions, orders));
+        }
+        log.info("Push fan-out of order changes:\n{}", String.join("\n", report));
+    }
+
+    private String run(int sessionCount, int orders) {
+        SimulatedSessions sessions = new SimulatedSessions();
+        long heapBefore = usedHeapAfterGc();
+        for (int i = 0; i < sessionCount; i++) {
+            Supplier<Component> view = i % 2 == 0
+                    ? DashboardView::new
+                    : () -> new OrderListView(orderRepository);
+            sessions.open(view);
+        }
+        long heapPerSession = (usedHeapAfterGc() - heapBefore) / sessionCount;
+
+        List<Long> latencies = new ArrayList<>();
+        long pushes = 0;
+        long pushedBytes = 0;
+        int operations = 0;
+        try {
+            for (int i = 0; i < orders; i++) {
+                Order order = new Order(LocalDate.now(), customer, PickupLocation.STOREFRONT);
+                order.addItem(new OrderItem(product, 1, product.getPrice()));
+                Long orderId = measure(sessions, latencies, () -> orderService.createOrder(order).getId());
+                createdOrderIds.add(orderId);
+                measure(sessions, latencies, () -> orderService.markReady(orderId));
+                measure(sessions, latencies, () -> orderService.markDelivered(orderId));
+                operations += 3;
+            }
+            for (SimulatedSessions.SimulatedUi ui : sessions.uis()) {
+                pushes += ui.pushCount();
+                pushedBytes += ui.pushedBytes();
+            }
+        } finally {
+            sessions.closeAll();
+        }
+
+        assertFalse(latencies.isEmpty(), "No session received a push");
+        latencies.sort(null);
+        return String.format("%8d %14s %10.1f %10.2f %10.2f %10.2f %10.2f %12d",
+                sessionCount, heapPerSession / 1024 + " KiB", (double) pushes / operations,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies.getLast() / 1e6, pushes > 0 ? pushedBytes / pushes : 0);
+    }
+
+    /**
+     * Run one order operation and record, for each session that pushed, the time from
+     * the start of the operation until its last push. Updates are coalesced and pushed
+     * in the background, so this waits until the sessions have stopped pushing.
+     */
+    private <T> T measure(SimulatedSessions sessions, List<Long> latencies, Supplier<T> operation) {
+        long start = System.nanoTime();
+        T result = operation.get();
+        sessions.awaitQuiet(QUIET_PERIOD);
+        for (SimulatedSessions.SimulatedUi ui : sessions.uis()) {
+            List<SimulatedSessions.Push> pushes = ui.takePushes();
+            if (!pushes.isEmpty()) {
+                latencies.add(pushes.getLast().nanoTime() - start);
+            }
+        }
+        return result;
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.orders.load;
+
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.signals.OrderSignals;
+import com.example.orders.ui.DashboardView;
+import com.example.orders.ui.OrderListView;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.grid.Grid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Report of the heap retained per open session for growing numbers of orders, to
+ * verify that sessions reference the shared order data rather than copying it.
+ * <p>
+ * Needs no database: the shared signals are filled with synthetic orders that are
+ * all due today, so the dashboard shows every one of them, and the order list reads
+ * from a stub repository. Each session requests rows and scrolls through its grid like
+ * a browser would. Only runs when requested, e.g.
+ * {@code ./mvnw test -Dtest=SessionFootprintTest -Dbakery.footprint.orders=1000,10000,100000}.
+ * The number of sessions per view is set with {@code bakery.footprint.sessions} (default 100).
+ */
+@EnabledIfSystemProperty(named = "bakery.footprint.orders", matches = "\\d+(,\\d+)*")
+class SessionFootprintTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionFootprintTest.class);
+
+    // Rows a browser shows and requests at once
+    private static final int VIEWPORT = 100;
+
+    private static final int LOAD_BATCH = 2000;
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.reset();
+    }
+
+    @Test
+    void retainedHeapPerSession() {
+        int sessions = Integer.getInteger("bakery.footprint.sessions", 100);
+        List<Integer> orderCounts = Arrays.stream(System.getProperty("bakery.footprint.orders").split(","))
+                .map(Integer::valueOf)
+                .toList();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%10s %20s %20s", "orders", "dashboard/session", "order list/session"));
+        for (int orders : orderCounts) {
+            loadOrders(orders);
+            OrderRepository repository = stubRepository(orders);
+            long dashboard = retainedPerSession(sessions, orders, DashboardView::new);
+            long orderList = retainedPerSession(sessions, orders, () -> new OrderListView(repository));
+            report.add(String.format("%10d %20s %20s", orders, dashboard / 1024 + " KiB", orderList / 1024 + " KiB"));
+        }
+        log.info("Heap retained per session:\n{}", String.join("\n", report));
+    }
+
+    private long retainedPerSession(int sessionCount, int orders, Supplier<Component> view) {
+        SimulatedSessions sessions = new SimulatedSessions();
+        try {
+            // The first session also creates what all sessions share, such as the partition of today's orders
+            openAndScroll(sessions, orders, view);
+            long heapBefore = usedHeapAfterGc();
+            for (int i = 0; i < sessionCount; i++) {
+                openAndScroll(sessions, orders, view);
+            }
+            return (usedHeapAfterGc() - heapBefore) / sessionCount;
+        } finally {
+            sessions.closeAll();
+        }
+    }
+
+    /**
+     * Open a session and scroll from the top to the bottom, leaving the grid halfway down.
+     */
+    private void openAndScroll(SimulatedSessions sessions, int orders, Supplier<Component> view) {
+        SimulatedSessions.SimulatedUi ui = sessions.open(view);
+        for (int offset : new int[] {0, orders / 4, orders - VIEWPORT, orders / 2}) {
+            ui.request(current -> grids(current).forEach(grid -> grid.getDataCommunicator()
+                    .setViewportRange(Math.max(0, offset), VIEWPORT)));
+        }
+    }
+
+    private void loadOrders(int count) {
+        OrderSignals.reset();
+        // In batches of the warm-up's size, as one signal transaction copies the list for every insert
+        for (long first = 1; first <= count; first += LOAD_BATCH) {
+            LongStream ids = LongStream.range(first, Math.min(first + LOAD_BATCH, count + 1L));
+            OrderSignals.batch(batch -> ids.forEach(id -> batch.put(order(id))));
+        }
+    }
+
+    /**
+     * A repository with the given number of orders that hands out consecutive orders
+     * for every page, which is all the order list needs to fill and scroll its grid.
+     */
+    @SuppressWarnings("unchecked")
+    private OrderRepository stubRepository(int orders) {
+        // Stub only, so that the calls of all sessions are not recorded on the heap
+        OrderRepository repository = mock(OrderRepository.class, withSettings().stubOnly());
+        long[] nextId = {1};
+        when(repository.count(any(org.springframework.data.jpa.domain.Specification.class))).thenReturn((long) orders);
+        when(repository.findSummaries(any(), any(), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(2);
+            long first = nextId[0];
+            nextId[0] = first + limit > orders ? 1 : first + limit;
+            return LongStream.range(first, first + limit).mapToObj(SessionFootprintTest::order).toList();
+        });
+        return repository;
+    }
+
+    private static OrderSummary order(long id) {
+        return new OrderSummary(id, 0L, "Customer " + id % 1000, LocalDate.now(),
+                OrderState.values()[(int) (id % 4)], 1000 + id % 5000, PickupLocation.STOREFRONT, id % 2 == 0);
+    }
+
+    private static Stream<Grid<?>> grids(Component component) {
+        Stream<Grid<?>> self = component instanceof Grid<?> grid ? Stream.of(grid) : Stream.empty();
+        return Stream.concat(self, component.getChildren().flatMap(SessionFootprintTest::grids));
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.orders.load;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.DependencyFilter;
+import com.vaadin.flow.server.PwaRegistry;
+import com.vaadin.flow.server.RouteRegistry;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.PushConnection;
+import com.vaadin.flow.server.communication.UidlWriter;
+import com.vaadin.flow.shared.communication.PushMode;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Headless Vaadin sessions for load testing. Each session has one UI with automatic
+ * push; instead of writing to a WebSocket, its push connection serializes the pending
+ * changes exactly like a real push would and records when and how much was pushed.
+ */
+class SimulatedSessions {
+
+    private final VaadinService service = new HeadlessService();
+
+    private final List<SimulatedUi> uis = new ArrayList<>();
+
+    /**
+     * Open a new session showing the view created by {@code view}.
+     */
+    SimulatedUi open(Supplier<? extends Component> view) {
+        VaadinSession session = new HeadlessSession(service);
+        UI ui = new UI();
+        SimulatedUi simulated = new SimulatedUi(ui);
+        session.lock();
+        try {
+            ui.getInternals().setSession(session);
+            ui.doInit(null, session.getNextUIid(), "load-test");
+            session.addUI(ui);
+            ui.getPushConfiguration().setPushMode(PushMode.AUTOMATIC);
+            ui.getInternals().setPushConnection(simulated);
+            UI.setCurrent(ui);
+            ui.add(view.get());
+        } finally {
+            UI.setCurrent(null);
+            // Renders the view, like the response to the first request would
+            session.unlock();
+        }
+        simulated.reset();
+        uis.add(simulated);
+        return simulated;
+    }
+
+    List<SimulatedUi> uis() {
+        return uis;
+    }
+
+    /**
+     * Wait until no session has pushed for the given period.
+     */
+    void awaitQuiet(Duration period) {
+        long since = System.nanoTime();
+        while (true) {
+            long lastPush = uis.stream().mapToLong(SimulatedUi::lastPushNanoTime).max().orElse(since);
+            long remaining = Math.max(lastPush, since) + period.toNanos() - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    void closeAll() {
+        for (SimulatedUi simulated : uis) {
+            VaadinSession session = simulated.ui.getSession();
+            session.lock();
+            try {
+                // Detaches the view, which disposes its effects
+                session.removeUI(simulated.ui);
+            } finally {
+                session.unlock();
+            }
+        }
+        uis.clear();
+    }
+
+    /**
+     * A time and size of a push to one UI.
+     */
+    record Push(long nanoTime, int bytes) {
+    }
+
+    static final class SimulatedUi implements PushConnection {
+
+        private final UI ui;
+
+        private final List<Push> pushes = new ArrayList<>();
+
+        private long pushCount;
+
+        private long pushedBytes;
+
+        private long lastPushNanoTime;
+
+        private SimulatedUi(UI ui) {
+            this.ui = ui;
+        }
+
+        @Override
+        public synchronized void push() {
+            String message = new UidlWriter().createUidl(ui, true).toString();
+            lastPushNanoTime = System.nanoTime();
+            pushes.add(new Push(lastPushNanoTime, message.length()));
+            pushCount++;
+            pushedBytes += message.length();
+        }
+
+        /**
+         * Run a task with the session locked, like a request from the browser would,
+         * and push the resulting changes.
+         */
+        void request(Consumer<UI> task) {
+            VaadinSession session = ui.getSession();
+            session.lock();
+            try {
+                task.accept(ui);
+            } finally {
+                session.unlock();
+            }
+        }
+
+        /**
+         * Pushes since the last call.
+         */
+        synchronized List<Push> takePushes() {
+            List<Push> taken = List.copyOf(pushes);
+            pushes.clear();
+            return taken;
+        }
+
+        synchronized long pushCount() {
+            return pushCount;
+        }
+
+        synchronized long pushedBytes() {
+            return pushedBytes;
+        }
+
+        synchronized long lastPushNanoTime() {
+            return lastPushNanoTime;
+        }
+
+        private synchronized void reset() {
+            pushes.clear();
+            pushCount = 0;
+            pushedBytes = 0;
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+    }
+
+    /**
+     * A session that is not stored in an HTTP session, so it holds its own lock.
+     */
+    private static final class HeadlessSession extends VaadinSession {
+
+        private final Lock lock = new ReentrantLock();
+
+        private HeadlessSession(VaadinService service) {
+            super(service);
+        }
+
+        @Override
+        public Lock getLockInstance() {
+            return lock;
+        }
+    }
+
+    /**
+     * Just enough of a service for sessions to lock, run access tasks and push.
+     */
+    private static final class HeadlessService extends VaadinService {
+
+        private final DeploymentConfiguration configuration = mock(DeploymentConfiguration.class,
+                withSettings().stubOnly());
+
+        private HeadlessService() {
+            when(configuration.isProductionMode()).thenReturn(true);
+        }
+
+        @Override
+        protected RouteRegistry getRouteRegistry() {
+            return null;
+        }
+
+        @Override
+        protected PwaRegistry getPwaRegistry() {
+            return null;
+        }
+
+        @Override
+        public String getContextRootRelativePath(VaadinRequest request) {
+            return "/";
+        }
+
+        @Override
+        public String getMimeType(String resourceName) {
+            return null;
+        }
+
+        @Override
+        protected boolean requestCanCreateSession(VaadinRequest request) {
+            return false;
+        }
+
+        @Override
+        public String getServiceName() {
+            return "load-test";
+        }
+
+        @Override
+        public String getMainDivId(VaadinSession session, VaadinRequest request) {
+            return "main";
+        }
+
+        @Override
+        public URL getStaticResource(String url) {
+            return null;
+        }
+
+        @Override
+        public URL getResource(String url) {
+            return null;
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String url) {
+            return null;
+        }
+
+        @Override
+        public String resolveResource(String url) {
+            return url;
+        }
+
+        @Override
+        protected VaadinContext constructVaadinContext() {
+            return null;
+        }
+
+        @Override
+        public DeploymentConfiguration getDeploymentConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public Iterable<DependencyFilter> getDependencyFilters() {
+            return List.of();
+        }
+    }
+}
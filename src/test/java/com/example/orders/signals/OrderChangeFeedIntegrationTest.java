@@ -0,0 +1,187 @@
+package com.example.orders.signals;
+
+import com.example.customers.domain.Customer;
+import com.example.customers.domain.CustomerRepository;
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.vaadin.signals.ValueSignal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the order change feed against PostgreSQL.
+ * Changes are written with plain SQL, as another application node would, so they
+ * reach the signals of this node only through the trigger and the listener.
+ */
+@SpringBootTest(properties = {
+        "bakery.change-feed.enabled=true",
+        "bakery.change-feed.poll-timeout=PT0.1S"
+})
+class OrderChangeFeedIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private OrderChangeFeedListener listener;
+
+    @Autowired
+    private OrderChangeFeedPruner pruner;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Customer customer;
+
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+
+        customer = new Customer();
+        customer.setName("Change Feed Customer");
+        customer.setPhone("555-0100");
+        customer = customerRepository.save(customer);
+        orderId = saveOrder();
+
+        OrderSignals.refreshAll(orderRepository, true);
+        awaitCaughtUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (!listener.isRunning()) {
+            listener.start();
+        }
+    }
+
+    @Test
+    void trigger_announcesUpdatesAndDeletes() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + OrderChangeFeedListener.CHANNEL);
+            }
+
+            jdbcTemplate.update("UPDATE orders SET state = 'READY', version = version + 1 WHERE id = ?", orderId);
+            jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId);
+
+            List<String> payloads = receive(connection, 2);
+            long seq = OrderChangeFeedListener.Change.parse(payloads.get(0)).seq();
+            assertEquals(List.of(seq + "," + orderId + ",1,U", (seq + 1) + "," + orderId + ",1,D"), payloads);
+            assertEquals(seq + 1, jdbcTemplate.queryForObject(
+                    "SELECT MAX(seq) FROM order_changes WHERE order_id = ? AND deleted", Long.class, orderId));
+        }
+    }
+
+    @Test
+    void updateOnAnotherNode_reachesSignals() {
+        jdbcTemplate.update("UPDATE orders SET state = 'READY', version = version + 1 WHERE id = ?", orderId);
+
+        awaitUntil(() -> OrderSignals.hasOrderVersion(orderId, 1L));
+        assertEquals(OrderState.READY, findInSignals(orderId).orElseThrow().state());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void deleteOnAnotherNode_reachesSignals() {
+        jdbcTemplate.update("DELETE FROM orders WHERE id = ?", orderId);
+
+        awaitUntil(() -> findInSignals(orderId).isEmpty());
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void changesPrunedWhileNotListening_reSynchronizeAllOrders() {
+        listener.stop();
+        jdbcTemplate.update("UPDATE orders SET state = 'READY', version = version + 1 WHERE id = ?", orderId);
+        Long addedId = saveOrder();
+        jdbcTemplate.update("UPDATE order_changes SET changed_at = changed_at - INTERVAL '30 days'");
+        pruner.pruneChanges();
+
+        // Only the most recent change is kept, so the update can only be picked up by a full re-sync
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_changes WHERE seq > ?", Long.class, listener.getLastSeq()));
+        listener.start();
+
+        awaitUntil(() -> OrderSignals.hasOrderVersion(orderId, 1L) && findInSignals(addedId).isPresent());
+        assertEquals(OrderState.READY, findInSignals(orderId).orElseThrow().state());
+    }
+
+    private Long saveOrder() {
+        Order order = new Order(LocalDate.now(), customer, PickupLocation.STOREFRONT);
+        order.setState(OrderState.NEW);
+        return orderRepository.save(order).getId();
+    }
+
+    private void awaitCaughtUp() {
+        long maxSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM order_changes", Long.class);
+        awaitUntil(() -> listener.getLastSeq() >= maxSeq);
+    }
+
+    private List<String> receive(Connection connection, int count) throws Exception {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        List<String> payloads = new ArrayList<>();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (payloads.size() < count && System.nanoTime() < deadline) {
+            PGNotification[] notifications = pgConnection.getNotifications(100);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                }
+            }
+        }
+        return payloads;
+    }
+
+    private Optional<OrderSummary> findInSignals(Long id) {
+        return OrderSignals.getOrdersSignal().value().stream()
+                .map(ValueSignal::value)
+                .filter(order -> id.equals(order.id()))
+                .findFirst();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted while waiting");
+            }
+        }
+    }
+}
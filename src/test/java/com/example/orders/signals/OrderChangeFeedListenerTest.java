@@ -0,0 +1,182 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.DashboardStats;
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.service.OrderChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderChangeFeedListener.
+ * Verifies that notifications are applied to the signals and that gaps trigger a catch-up.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderChangeFeedListenerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderChangeFeedListener listener;
+
+    @BeforeEach
+    void setUp() {
+        OrderSignals.reset();
+        when(orderRepository.findWorkingSet(any(), any(), any()))
+                .thenReturn(List.of(order(1L, 0L, OrderState.NEW)));
+        when(orderRepository.findDashboardStats(any()))
+                .thenReturn(new DashboardStats(LocalDate.now(), 1, 0, 0, 0, 1));
+        OrderSignals.refreshAll(orderRepository, true);
+
+        listener = new OrderChangeFeedListener(jdbcTemplate, orderRepository,
+                "jdbc:postgresql://localhost:5432/bakery", "bakery_user", "bakery_pass", Duration.ofSeconds(1));
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM order_changes", Long.class))
+                .thenReturn(10L);
+        listener.catchUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.reset();
+    }
+
+    @Test
+    void notification_refreshesChangedOrder() {
+        when(orderRepository.findSummariesByIdIn(Set.of(1L)))
+                .thenReturn(List.of(order(1L, 1L, OrderState.READY)));
+
+        listener.handleNotifications(List.of("11,1,1,U"));
+
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    void notificationForKnownVersion_isSkipped() {
+        listener.handleNotifications(List.of("11,1,0,U"));
+
+        verify(orderRepository, never()).findSummariesByIdIn(any());
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    void deleteNotification_removesOrderWithoutQuery() {
+        listener.handleNotifications(List.of("11,1,0,D"));
+
+        assertEquals(0, OrderSignals.getOrdersSignal().value().size());
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        verify(orderRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void notificationForOwnWrite_isSkippedBeforeSignalsAreUpdated() {
+        Order order = new Order();
+        order.setId(1L);
+        order.setVersion(1L);
+        listener.onOrderChanged(OrderChangedEvent.saved(order));
+
+        // The notification arrives before the signals are updated after the commit
+        listener.handleNotifications(List.of("11,1,1,U"));
+
+        verify(orderRepository, never()).findSummariesByIdIn(any());
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void gapInSequence_readsMissedChangesFromTable() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(10L))).thenReturn(List.of(
+                new OrderChangeFeedListener.Change(11, 2L, 0L, false),
+                new OrderChangeFeedListener.Change(12, 3L, 0L, false)));
+        when(orderRepository.findSummariesByIdIn(Set.of(3L, 2L))).thenReturn(List.of(
+                order(2L, 0L, OrderState.NEW),
+                order(3L, 0L, OrderState.READY)));
+
+        listener.handleNotifications(List.of("12,3,0,U"));
+
+        assertEquals(3, OrderSignals.getOrdersSignal().value().size());
+        assertEquals(2, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(12, listener.getLastSeq());
+    }
+
+    @Test
+    void olderNotificationCommittedLate_isStillApplied() {
+        when(orderRepository.findSummariesByIdIn(Set.of(1L)))
+                .thenReturn(List.of(order(1L, 1L, OrderState.READY)));
+        listener.handleNotifications(List.of("11,1,1,U"));
+        when(orderRepository.findSummariesByIdIn(Set.of(2L)))
+                .thenReturn(List.of(order(2L, 0L, OrderState.NEW)));
+
+        listener.handleNotifications(List.of("9,2,0,U"));
+
+        assertEquals(2, OrderSignals.getOrdersSignal().value().size());
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    void notificationWhileWarmingUp_updatesLoadedPage() {
+        OrderSignals.reset();
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), eq(0L), any()))
+                .thenReturn(List.of(order(1L, 0L, OrderState.NEW)));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), eq(1L), any())).thenAnswer(invocation -> {
+            // The first page is in when another node changes one of its orders
+            listener.handleNotifications(List.of("11,1,1,U"));
+            return List.of(order(2L, 0L, OrderState.NEW));
+        });
+        when(orderRepository.findSummariesByIdIn(Set.of(1L)))
+                .thenReturn(List.of(order(1L, 1L, OrderState.READY)));
+
+        OrderSignals.warmUp(orderRepository, 1);
+
+        assertTrue(OrderSignals.hasOrderVersion(1L, 1L));
+        assertEquals(OrderState.READY, OrderSignals.getOrdersSignal().value().getFirst().value().state());
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    void notificationForOrderOutsideWindow_doesNotGrowWorkingSet() {
+        OrderSummary historical = new OrderSummary(2L, 4L, "Customer 2", LocalDate.now().minusYears(1),
+                OrderState.DELIVERED, 1000, PickupLocation.STOREFRONT, true);
+        when(orderRepository.findSummariesByIdIn(Set.of(2L))).thenReturn(List.of(historical));
+
+        listener.handleNotifications(List.of("11,2,4,U"));
+
+        assertEquals(1, OrderSignals.getOrdersSignal().value().size());
+        assertFalse(OrderSignals.hasOrderVersion(2L, 4L));
+        assertEquals(11, listener.getLastSeq());
+    }
+
+    @Test
+    void parse_rejectsMalformedPayload() {
+        assertThrows(IllegalArgumentException.class,
+                () -> OrderChangeFeedListener.Change.parse("11,1"));
+    }
+
+    private OrderSummary order(Long id, Long version, OrderState state) {
+        return new OrderSummary(id, version, "Customer " + id, LocalDate.now(), state,
+                1000, PickupLocation.STOREFRONT, false);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.orders.signals;
+
+import com.example.shared.ui.CoalescedEffect;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderSignalsMetrics.
+ * Verifies that effect listeners record their meters, also after a session round trip.
+ */
+class OrderSignalsMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void effect_countsTriggersAndAppliedUpdates() {
+        CoalescedEffect.Listener listener = OrderSignalsMetrics.effect("test.counted");
+
+        listener.triggered();
+        listener.burstStarted();
+        listener.triggered();
+        listener.applied();
+
+        assertEquals(2, registry.get(OrderSignalsMetrics.EFFECT_TRIGGERS).tag("effect", "test.counted")
+                .counter().count());
+        assertEquals(1, registry.get(OrderSignalsMetrics.EFFECT_RUNS).tag("effect", "test.counted")
+                .counter().count());
+        assertEquals(1, registry.get(OrderSignalsMetrics.EFFECT_LAG).tag("effect", "test.counted")
+                .timer().count());
+    }
+
+    @Test
+    void effect_keepsRecordingAfterSerialization() throws Exception {
+        CoalescedEffect.Listener listener = serializeAndRestore(OrderSignalsMetrics.effect("test.restored"));
+
+        listener.triggered();
+        listener.burstStarted();
+        listener.applied();
+
+        assertEquals(1, registry.get(OrderSignalsMetrics.EFFECT_RUNS).tag("effect", "test.restored")
+                .counter().count());
+    }
+
+    private static CoalescedEffect.Listener serializeAndRestore(CoalescedEffect.Listener listener) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(listener);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CoalescedEffect.Listener) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.DashboardStats;
+import com.example.orders.domain.OrderRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that OrderSignals can be used from virtual threads without pinning them
+ * to their carrier thread while they wait, using the JFR pinning event.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderSignalsPinningTest {
+
+    private static final int THREADS = 20;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        OrderSignals.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.reset();
+    }
+
+    @Test
+    void concurrentRefreshes_doNotPinVirtualThreads() throws Exception {
+        // Every refresh blocks in the "database" while the others wait for the signals
+        when(orderRepository.findWorkingSet(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return List.of();
+        });
+        when(orderRepository.findDashboardStats(any())).thenReturn(DashboardStats.empty(LocalDate.now()));
+
+        Path file = tempDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < THREADS; i++) {
+                    executor.submit(() -> {
+                        OrderSignals.refreshAll(orderRepository, true);
+                        OrderSignals.reconcileDashboardStats(orderRepository);
+                    });
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        verify(orderRepository, times(THREADS)).findWorkingSet(any(), any(), any());
+        List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                        .anyMatch(frame -> frame.getMethod().getType().getName()
+                                .equals(OrderSignals.class.getName())))
+                .toList();
+        assertEquals(List.of(), pinned);
+    }
+}
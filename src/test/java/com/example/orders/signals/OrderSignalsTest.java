@@ -0,0 +1,617 @@
+package com.example.orders.signals;
+
+import com.example.orders.domain.DashboardStats;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.vaadin.signals.Signal;
+import com.vaadin.signals.ValueSignal;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderSignals.
+ * Verifies that the incrementally maintained dashboard counters match a full recount.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderSignalsTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        OrderSignals.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.setWindow(OrderWindow.DEFAULT);
+        OrderSignals.reset();
+    }
+
+    @Test
+    void addOrder_incrementsStateAndTodayCounters() {
+        OrderSignals.addOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        OrderSignals.addOrder(order(2L, OrderState.READY, LocalDate.now().plusDays(1)));
+
+        assertEquals(1, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void refreshOrder_movesCountBetweenStates() {
+        OrderSignals.addOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        when(orderRepository.findSummaryById(1L))
+                .thenReturn(Optional.of(order(1L, OrderState.READY, LocalDate.now())));
+
+        OrderSignals.refreshOrder(orderRepository, 1L);
+
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void refreshOrder_withChangedDueDate_updatesTodayCount() {
+        OrderSignals.addOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        when(orderRepository.findSummaryById(1L))
+                .thenReturn(Optional.of(order(1L, OrderState.NEW, LocalDate.now().plusDays(2))));
+
+        OrderSignals.refreshOrder(orderRepository, 1L);
+
+        assertEquals(0, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getNewOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void removeOrder_decrementsCounters() {
+        OrderSignals.addOrder(order(1L, OrderState.CANCELLED, LocalDate.now()));
+
+        OrderSignals.removeOrder(1L);
+
+        assertEquals(0, OrderSignals.getCancelledOrderCountSignal().valueAsInt());
+        assertEquals(0, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+        assertTrue(OrderSignals.getOrdersSignal().value().isEmpty());
+    }
+
+    @Test
+    void refreshOrder_replacesOrderInPlace() {
+        stubWorkingSet(List.of(
+                order(1L, OrderState.NEW, LocalDate.now()),
+                order(2L, OrderState.NEW, LocalDate.now()),
+                order(3L, OrderState.NEW, LocalDate.now())));
+        OrderSignals.refreshAll(orderRepository, true);
+        when(orderRepository.findSummaryById(2L))
+                .thenReturn(Optional.of(order(2L, OrderState.READY, LocalDate.now())));
+
+        OrderSignals.refreshOrder(orderRepository, 2L);
+
+        List<OrderSummary> current = currentOrders();
+        assertEquals(List.of(1L, 2L, 3L), current.stream().map(OrderSummary::id).toList());
+        assertEquals(OrderState.READY, current.get(1).state());
+    }
+
+    @Test
+    void removeOrder_afterFullRefresh_removesOnlyThatOrder() {
+        stubWorkingSet(List.of(
+                order(1L, OrderState.NEW, LocalDate.now()),
+                order(2L, OrderState.NEW, LocalDate.now())));
+        OrderSignals.refreshAll(orderRepository, true);
+
+        OrderSignals.removeOrder(1L);
+        OrderSignals.removeOrder(99L);
+
+        assertEquals(List.of(2L), currentOrders().stream().map(OrderSummary::id).toList());
+        assertEquals(1, OrderSignals.getNewOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void refreshAll_forcedWithUnchangedOrders_doesNotTriggerEffects() {
+        List<OrderSummary> loaded = List.of(
+                versioned(order(1L, OrderState.NEW, LocalDate.now()), 0L),
+                versioned(order(2L, OrderState.READY, LocalDate.now()), 3L));
+        stubWorkingSet(loaded);
+        OrderSignals.refreshAll(orderRepository, true);
+
+        AtomicInteger listRuns = new AtomicInteger();
+        AtomicInteger elementRuns = new AtomicInteger();
+        Runnable listEffect = Signal.effect(() -> {
+            OrderSignals.getOrdersSignal().value();
+            listRuns.incrementAndGet();
+        });
+        Runnable elementEffect = Signal.effect(() -> {
+            OrderSignals.getOrdersSignal().value().forEach(ValueSignal::value);
+            elementRuns.incrementAndGet();
+        });
+
+        OrderSignals.refreshAll(orderRepository, true);
+
+        assertEquals(1, listRuns.get());
+        assertEquals(1, elementRuns.get());
+        listEffect.run();
+        elementEffect.run();
+    }
+
+    @Test
+    void refreshAll_forced_appliesOnlyDifferences() {
+        stubWorkingSet(List.of(
+                versioned(order(1L, OrderState.NEW, LocalDate.now()), 0L),
+                versioned(order(2L, OrderState.NEW, LocalDate.now()), 0L)));
+        OrderSignals.refreshAll(orderRepository, true);
+        stubWorkingSet(List.of(
+                versioned(order(2L, OrderState.READY, LocalDate.now()), 1L),
+                versioned(order(3L, OrderState.NEW, LocalDate.now()), 0L)));
+
+        OrderSignals.refreshAll(orderRepository, true);
+
+        List<OrderSummary> current = currentOrders();
+        assertEquals(List.of(2L, 3L), current.stream().map(OrderSummary::id).toList());
+        assertEquals(OrderState.READY, current.get(0).state());
+        assertCountersMatchOrders();
+    }
+
+    @Test
+    void refreshAll_loadsWorkingSetForConfiguredWindow() {
+        OrderSignals.setWindow(new OrderWindow(2, 5));
+        LocalDate today = LocalDate.now();
+        stubWorkingSet(List.of());
+
+        OrderSignals.refreshAll(orderRepository, true);
+
+        verify(orderRepository).findWorkingSet(OrderWindow.ACTIVE_STATES, today.minusDays(2), today.plusDays(5));
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void evictOutsideWindow_removesOnlyOldFinishedOrders() {
+        OrderSignals.setWindow(new OrderWindow(30, 30));
+        LocalDate longAgo = LocalDate.now().minusDays(10);
+        OrderSignals.addOrder(order(1L, OrderState.DELIVERED, longAgo));
+        OrderSignals.addOrder(order(2L, OrderState.CANCELLED, longAgo));
+        OrderSignals.addOrder(order(3L, OrderState.READY, longAgo));
+        OrderSignals.addOrder(order(4L, OrderState.DELIVERED, LocalDate.now().minusDays(1)));
+        // The window shrinks, as it does for orders that age out of it day by day
+        OrderSignals.setWindow(new OrderWindow(2, 5));
+        long sequence = OrderSignals.getChangeSequence();
+
+        int evicted = OrderSignals.evictOutsideWindow();
+
+        assertEquals(2, evicted);
+        assertEquals(List.of(3L, 4L), currentOrders().stream().map(OrderSummary::id).toList());
+        assertTrue(OrderSignals.changesSince(sequence).orElseThrow().stream().allMatch(OrderChange::evicted));
+        // Evicted orders still exist, so they are still counted
+        assertEquals(2, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getCancelledOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void ordersDueOnSignal_ignoresChangesOnOtherDays() {
+        LocalDate today = LocalDate.now();
+        LocalDate nextWeek = today.plusDays(7);
+        OrderSignals.addOrder(order(1L, OrderState.NEW, today));
+        OrderSignals.addOrder(order(2L, OrderState.NEW, nextWeek));
+
+        AtomicInteger runs = new AtomicInteger();
+        Runnable effect = Signal.effect(() -> {
+            OrderSignals.getOrdersDueOnSignal(today).value();
+            runs.incrementAndGet();
+        });
+        when(orderRepository.findSummaryById(2L))
+                .thenReturn(Optional.of(order(2L, OrderState.CANCELLED, nextWeek)));
+
+        OrderSignals.refreshOrder(orderRepository, 2L);
+        OrderSignals.addOrder(order(3L, OrderState.NEW, nextWeek));
+
+        assertEquals(1, runs.get());
+        assertEquals(List.of(1L), ids(OrderSignals.getOrdersDueOnSignal(today).value()));
+        effect.run();
+    }
+
+    @Test
+    void ordersDueOnSignal_tracksMembershipAndMemberChanges() {
+        LocalDate today = LocalDate.now();
+        OrderSignals.addOrder(order(1L, OrderState.NEW, today));
+        OrderSignals.addOrder(order(2L, OrderState.NEW, today.plusDays(1)));
+        Signal<List<OrderSummary>> todaysOrders = OrderSignals.getOrdersDueOnSignal(today);
+
+        when(orderRepository.findSummaryById(1L))
+                .thenReturn(Optional.of(order(1L, OrderState.READY, today)));
+        OrderSignals.refreshOrder(orderRepository, 1L);
+        assertEquals(OrderState.READY, todaysOrders.value().get(0).state());
+
+        when(orderRepository.findSummaryById(2L))
+                .thenReturn(Optional.of(order(2L, OrderState.NEW, today)));
+        OrderSignals.refreshOrder(orderRepository, 2L);
+        assertEquals(List.of(1L, 2L), ids(todaysOrders.value()));
+
+        OrderSignals.removeOrder(1L);
+        assertEquals(List.of(2L), ids(todaysOrders.value()));
+    }
+
+    @Test
+    void ordersInStateSignal_followsStateTransitions() {
+        OrderSignals.addOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        OrderSignals.addOrder(order(2L, OrderState.READY, LocalDate.now()));
+        Signal<List<OrderSummary>> readyOrders = OrderSignals.getOrdersInStateSignal(OrderState.READY);
+        assertEquals(List.of(2L), ids(readyOrders.value()));
+
+        when(orderRepository.findSummaryById(1L))
+                .thenReturn(Optional.of(order(1L, OrderState.READY, LocalDate.now())));
+        OrderSignals.refreshOrder(orderRepository, 1L);
+
+        assertEquals(List.of(1L, 2L), ids(readyOrders.value()));
+        assertTrue(OrderSignals.getOrdersInStateSignal(OrderState.NEW).value().isEmpty());
+    }
+
+    @Test
+    void batch_notifiesSubscribersOncePerBatch() {
+        for (long id = 1; id <= 50; id++) {
+            OrderSignals.addOrder(order(id, OrderState.NEW, LocalDate.now()));
+        }
+        AtomicInteger listRuns = new AtomicInteger();
+        AtomicInteger counterRuns = new AtomicInteger();
+        Runnable listEffect = Signal.effect(() -> {
+            OrderSignals.getOrdersSignal().value().forEach(ValueSignal::value);
+            listRuns.incrementAndGet();
+        });
+        Runnable counterEffect = Signal.effect(() -> {
+            OrderSignals.getNewOrderCountSignal().value();
+            OrderSignals.getReadyOrderCountSignal().value();
+            counterRuns.incrementAndGet();
+        });
+
+        OrderSignals.batch(batch -> {
+            for (long id = 1; id <= 50; id++) {
+                batch.put(order(id, OrderState.READY, LocalDate.now()));
+            }
+            batch.remove(50L);
+        });
+
+        assertEquals(2, listRuns.get());
+        assertEquals(2, counterRuns.get());
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(49, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertCountersMatchOrders();
+        listEffect.run();
+        counterEffect.run();
+    }
+
+    @Test
+    void refreshOrders_loadsAllOrdersWithOneQuery() {
+        OrderSignals.addOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        OrderSignals.addOrder(order(2L, OrderState.NEW, LocalDate.now()));
+        when(orderRepository.findSummariesByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                order(1L, OrderState.READY, LocalDate.now()),
+                order(3L, OrderState.NEW, LocalDate.now())));
+
+        OrderSignals.refreshOrders(orderRepository, List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 3L), ids(currentOrders()));
+        assertEquals(OrderState.READY, currentOrders().get(0).state());
+        assertCountersMatchOrders();
+        verify(orderRepository, never()).findSummaryById(any());
+    }
+
+    @Test
+    void randomChanges_countersMatchFullRecount() {
+        Random random = new Random(42);
+        OrderState[] states = OrderState.values();
+
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(40);
+            int action = random.nextInt(3);
+            if (action == 0) {
+                when(orderRepository.findSummaryById(id)).thenReturn(Optional.of(order(id,
+                        states[random.nextInt(states.length)],
+                        LocalDate.now().plusDays(random.nextInt(3) - 1))));
+                OrderSignals.refreshOrder(orderRepository, id);
+            } else if (action == 1) {
+                when(orderRepository.findSummaryById(id)).thenReturn(Optional.empty());
+                OrderSignals.refreshOrder(orderRepository, id);
+            } else {
+                OrderSignals.removeOrder(id);
+            }
+        }
+
+        assertCountersMatchOrders();
+        when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(currentOrders()));
+        assertFalse(OrderSignals.reconcileDashboardStats(orderRepository));
+    }
+
+    @Test
+    void reconcileDashboardStats_afterFullRefresh_reportsNoDrift() {
+        stubWorkingSet(List.of(
+                order(1L, OrderState.NEW, LocalDate.now()),
+                order(2L, OrderState.DELIVERED, LocalDate.now().minusDays(1))));
+
+        OrderSignals.refreshAll(orderRepository, true);
+
+        assertFalse(OrderSignals.reconcileDashboardStats(orderRepository));
+        assertCountersMatchOrders();
+    }
+
+    @Test
+    void changesSince_returnsChangesAfterSequence() {
+        OrderSignals.putOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        long sequence = OrderSignals.getChangeSequence();
+
+        OrderSignals.putOrder(order(1L, OrderState.READY, LocalDate.now()));
+        OrderSignals.removeOrder(1L);
+
+        List<OrderChange> changes = OrderSignals.changesSince(sequence).orElseThrow();
+        assertEquals(2, changes.size());
+        assertEquals(OrderState.NEW, changes.get(0).before().state());
+        assertEquals(OrderState.READY, changes.get(0).after().state());
+        assertNull(changes.get(1).after());
+        assertEquals(sequence + 2, OrderSignals.getChangeSequenceSignal().value().longValue());
+    }
+
+    @Test
+    void changesSince_afterReset_requiresReload() {
+        OrderSignals.putOrder(order(1L, OrderState.NEW, LocalDate.now()));
+        long sequence = OrderSignals.getChangeSequence();
+
+        OrderSignals.reset();
+
+        assertTrue(OrderSignals.changesSince(sequence).isEmpty());
+    }
+
+    @Test
+    void refreshAll_seedsCountersFromDatabaseTotals() {
+        LocalDate today = LocalDate.now();
+        when(orderRepository.findWorkingSet(any(), any(), any())).thenReturn(List.of(
+                order(1L, OrderState.NEW, today)));
+        when(orderRepository.findDashboardStats(today))
+                .thenReturn(new DashboardStats(today, 1, 0, 250, 12, 1));
+
+        OrderSignals.refreshAll(orderRepository, true);
+
+        assertEquals(1, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(250, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(12, OrderSignals.getCancelledOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void putOrder_finishedOrderFromOutsideWindow_isNotCountedAgain() {
+        LocalDate today = LocalDate.now();
+        stubWorkingSet(List.of());
+        when(orderRepository.findDashboardStats(today))
+                .thenReturn(new DashboardStats(today, 0, 0, 5, 0, 0));
+        OrderSignals.refreshAll(orderRepository, true);
+
+        OrderSignals.putOrder(versioned(order(1L, OrderState.DELIVERED, today.minusDays(30)), 3L));
+        OrderSignals.putOrder(versioned(order(2L, OrderState.DELIVERED, today), 0L));
+
+        assertEquals(6, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void putOrder_finishedOrderOutsideWindow_isNotAdded() {
+        LocalDate today = LocalDate.now();
+        stubWorkingSet(List.of());
+        when(orderRepository.findDashboardStats(today))
+                .thenReturn(new DashboardStats(today, 0, 0, 5, 0, 0));
+        OrderSignals.refreshAll(orderRepository, true);
+        long sequence = OrderSignals.getChangeSequence();
+
+        // An edit to an old order, e.g. marking it as paid
+        OrderSignals.putOrder(versioned(order(1L, OrderState.DELIVERED, today.minusDays(30)), 3L));
+
+        assertTrue(currentOrders().isEmpty());
+        assertTrue(OrderSignals.getOrdersInStateSignal(OrderState.DELIVERED).value().isEmpty());
+        assertEquals(5, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(Optional.of(List.of()), OrderSignals.changesSince(sequence));
+    }
+
+    @Test
+    void putOrder_finishedOrderMovedToToday_isCountedForTodayOnly() {
+        LocalDate today = LocalDate.now();
+        stubWorkingSet(List.of());
+        when(orderRepository.findDashboardStats(today))
+                .thenReturn(new DashboardStats(today, 0, 0, 5, 0, 0));
+        OrderSignals.refreshAll(orderRepository, true);
+
+        // Was due outside the window, so neither in the list nor in today's count
+        OrderSignals.putOrder(versioned(order(1L, OrderState.DELIVERED, today), 3L));
+
+        assertEquals(5, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void reconcileDashboardStats_correctsDrift() {
+        LocalDate today = LocalDate.now();
+        OrderSignals.addOrder(order(1L, OrderState.NEW, today));
+        when(orderRepository.findDashboardStats(any()))
+                .thenReturn(new DashboardStats(today, 3, 1, 40, 2, 2));
+
+        assertTrue(OrderSignals.reconcileDashboardStats(orderRepository));
+
+        assertEquals(3, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(40, OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(2, OrderSignals.getCancelledOrderCountSignal().valueAsInt());
+        assertEquals(2, OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void warmUp_loadsWorkingSetInPages() {
+        List<OrderSummary> orders = List.of(
+                versioned(order(1L, OrderState.NEW, LocalDate.now()), 0L),
+                versioned(order(2L, OrderState.READY, LocalDate.now()), 0L),
+                versioned(order(3L, OrderState.DELIVERED, LocalDate.now().minusDays(1)), 0L));
+        when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(orders));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), eq(0L), any()))
+                .thenReturn(orders.subList(0, 2));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), eq(2L), any()))
+                .thenReturn(orders.subList(2, 3));
+
+        long sequence = OrderSignals.getChangeSequence();
+
+        assertEquals(3, OrderSignals.warmUp(orderRepository, 2));
+
+        assertTrue(OrderSignals.isInitialized());
+        assertTrue(OrderSignals.getLoadedSignal().value());
+        assertEquals(List.of(1L, 2L, 3L), ids(currentOrders()));
+        assertCountersMatchOrders();
+        // Loading is not a change to the orders, but views holding rows of their own reload
+        assertEquals(Optional.of(List.of()), OrderSignals.changesSince(OrderSignals.getChangeSequence()));
+        assertTrue(OrderSignals.changesSince(sequence).isEmpty());
+    }
+
+    @Test
+    void warmUp_keepsNewerVersionAppliedMeanwhile() {
+        OrderSummary loaded = versioned(order(1L, OrderState.NEW, LocalDate.now()), 1L);
+        OrderSummary changed = versioned(order(1L, OrderState.READY, LocalDate.now()), 2L);
+        when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(List.of(changed)));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            // The order changes after the page has been read, before it is applied
+            OrderSignals.putOrder(changed);
+            return List.of(loaded);
+        });
+
+        OrderSignals.warmUp(orderRepository, 10);
+
+        assertEquals(List.of(changed), currentOrders());
+        assertCountersMatchOrders();
+    }
+
+    @Test
+    void warmUp_keepsOrderRemovedMeanwhileRemoved() {
+        OrderSummary loaded = versioned(order(1L, OrderState.NEW, LocalDate.now()), 1L);
+        when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(List.of()));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            // The order is deleted after the page has been read, before it is merged
+            OrderSignals.removeOrder(1L);
+            return List.of(loaded);
+        });
+
+        OrderSignals.warmUp(orderRepository, 10);
+
+        assertTrue(currentOrders().isEmpty());
+        assertCountersMatchOrders();
+    }
+
+    @Test
+    void warmUp_doesNotHoldLockWhileReadingPage() {
+        when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(List.of()));
+        when(orderRepository.findWorkingSetAfter(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            // A view thread reads the signals while the page query runs
+            CompletableFuture<Long> read = CompletableFuture.supplyAsync(OrderSignals::getChangeSequence);
+            assertDoesNotThrow(() -> read.get(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+
+        OrderSignals.warmUp(orderRepository, 10);
+
+        assertTrue(OrderSignals.isInitialized());
+    }
+
+    @Test
+    void warmUp_whenAlreadyLoaded_doesNothing() {
+        stubWorkingSet(List.of());
+        OrderSignals.refreshAll(orderRepository);
+
+        assertEquals(0, OrderSignals.warmUp(orderRepository, 10));
+
+        verify(orderRepository, never()).findWorkingSetAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void batch_isRecordedAsOneMutation() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            OrderSignals.batch(batch -> batch
+                    .put(order(1L, OrderState.NEW, LocalDate.now()))
+                    .put(order(2L, OrderState.READY, LocalDate.now())));
+
+            assertEquals(1, registry.get(OrderSignalsMetrics.MUTATION).tag("operation", "apply")
+                    .timer().count());
+            assertEquals(2, registry.get(OrderSignalsMetrics.MUTATION_CHANGES).tag("operation", "apply")
+                    .summary().totalAmount());
+            assertEquals(2, registry.get(OrderSignalsMetrics.ORDERS).gauge().value());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    /**
+     * Stub the working set and, as in these tests it holds all orders, the database totals.
+     */
+    private void stubWorkingSet(List<OrderSummary> orders) {
+        when(orderRepository.findWorkingSet(any(), any(), any())).thenReturn(orders);
+        lenient().when(orderRepository.findDashboardStats(any())).thenReturn(statsOf(orders));
+    }
+
+    private DashboardStats statsOf(List<OrderSummary> orders) {
+        return new DashboardStats(LocalDate.now(),
+                countState(orders, OrderState.NEW),
+                countState(orders, OrderState.READY),
+                countState(orders, OrderState.DELIVERED),
+                countState(orders, OrderState.CANCELLED),
+                orders.stream().filter(o -> o.dueDate().equals(LocalDate.now())).count());
+    }
+
+    private void assertCountersMatchOrders() {
+        List<OrderSummary> current = currentOrders();
+        assertEquals(countState(current, OrderState.NEW),
+                OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(countState(current, OrderState.READY),
+                OrderSignals.getReadyOrderCountSignal().valueAsInt());
+        assertEquals(countState(current, OrderState.DELIVERED),
+                OrderSignals.getDeliveredOrderCountSignal().valueAsInt());
+        assertEquals(countState(current, OrderState.CANCELLED),
+                OrderSignals.getCancelledOrderCountSignal().valueAsInt());
+        assertEquals(current.stream().filter(o -> o.dueDate().equals(LocalDate.now())).count(),
+                OrderSignals.getTodayOrderCountSignal().valueAsInt());
+    }
+
+    private List<OrderSummary> currentOrders() {
+        return OrderSignals.getOrdersSignal().value().stream()
+                .map(ValueSignal::value)
+                .toList();
+    }
+
+    private List<Long> ids(List<OrderSummary> orders) {
+        return orders.stream().map(OrderSummary::id).toList();
+    }
+
+    private long countState(List<OrderSummary> orders, OrderState state) {
+        return orders.stream().filter(o -> o.state() == state).count();
+    }
+
+    private OrderSummary versioned(OrderSummary order, Long version) {
+        return new OrderSummary(order.id(), version, order.customerName(), order.dueDate(),
+                order.state(), order.totalCents(), order.pickupLocation(), order.paid());
+    }
+
+    private OrderSummary order(Long id, OrderState state, LocalDate dueDate) {
+        return new OrderSummary(id, null, "Test Customer", dueDate, state, 2000,
+                PickupLocation.STOREFRONT, false);
+    }
+}
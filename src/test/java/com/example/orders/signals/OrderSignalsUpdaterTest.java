@@ -0,0 +1,91 @@
+package com.example.orders.signals;
+
+import com.example.customers.domain.Customer;
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.service.OrderChangedEvent;
+import com.example.shared.domain.Money;
+import com.vaadin.signals.ValueSignal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrderSignalsUpdater.
+ * Verifies that committed order changes are applied to the signals from the saved entity.
+ */
+class OrderSignalsUpdaterTest {
+
+    private final OrderSignalsUpdater updater = new OrderSignalsUpdater();
+
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        OrderSignals.reset();
+
+        Customer customer = new Customer();
+        customer.setId(1L);
+        customer.setName("Test Customer");
+
+        testOrder = new Order(LocalDate.now(), customer, PickupLocation.STOREFRONT);
+        testOrder.setId(7L);
+        testOrder.setVersion(0L);
+        testOrder.setTotalPrice(Money.ofCents(1250));
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.reset();
+    }
+
+    @Test
+    void onOrderChanged_withSavedOrder_putsSummary() {
+        OrderChangedEvent event = OrderChangedEvent.saved(testOrder);
+        // Version is incremented by the flush between publishing and commit
+        testOrder.setVersion(1L);
+
+        updater.onOrderChanged(event);
+
+        List<OrderSummary> orders = currentOrders();
+        assertEquals(1, orders.size());
+        assertEquals(1L, orders.get(0).version());
+        assertEquals("Test Customer", orders.get(0).customerName());
+        assertEquals(1250, orders.get(0).totalCents());
+        assertEquals(1, OrderSignals.getNewOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void onOrderChanged_withStateChange_replacesSummary() {
+        updater.onOrderChanged(OrderChangedEvent.saved(testOrder));
+        testOrder.markReady();
+
+        updater.onOrderChanged(OrderChangedEvent.saved(testOrder));
+
+        assertEquals(OrderState.READY, currentOrders().get(0).state());
+        assertEquals(0, OrderSignals.getNewOrderCountSignal().valueAsInt());
+        assertEquals(1, OrderSignals.getReadyOrderCountSignal().valueAsInt());
+    }
+
+    @Test
+    void onOrderChanged_withDeletedOrder_removesIt() {
+        updater.onOrderChanged(OrderChangedEvent.saved(testOrder));
+
+        updater.onOrderChanged(OrderChangedEvent.deleted(7L));
+
+        assertTrue(currentOrders().isEmpty());
+    }
+
+    private List<OrderSummary> currentOrders() {
+        return OrderSignals.getOrdersSignal().value().stream()
+                .map(ValueSignal::value)
+                .toList();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.orders.ui;
+
+import com.example.orders.domain.Order;
+import com.example.orders.domain.OrderFilter;
+import com.example.orders.domain.OrderRepository;
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.signals.OrderChange;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderListDataProvider.
+ * Verifies keyset paging against the repository and row-level invalidation on order changes.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderListDataProviderTest {
+
+    private static final LocalDate DUE = LocalDate.of(2030, 1, 1);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderListDataProvider dataProvider;
+
+    private final List<DataChangeEvent<OrderSummary>> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataProvider = new OrderListDataProvider(orderRepository);
+        dataProvider.addDataProviderListener(events::add);
+    }
+
+    @Test
+    void firstPage_isSortedByDueDateThenId() {
+        when(orderRepository.findSummaries(any(), any(), eq(2))).thenReturn(orders(1, 2));
+
+        List<OrderSummary> page = fetch(0, 2, List.of());
+
+        assertEquals(List.of(1L, 2L), page.stream().map(OrderSummary::id).toList());
+        verify(orderRepository).findSummaries(any(), eq(Sort.by("dueDate", "id")), eq(2));
+    }
+
+    @Test
+    void scrollingBack_reusesKnownPositions() {
+        when(orderRepository.findSummaries(any(), any(), eq(2)))
+                .thenReturn(orders(1, 2), orders(3, 4), orders(1, 2));
+
+        fetch(0, 2, List.of());
+        fetch(2, 2, List.of());
+        fetch(0, 2, List.of());
+
+        // No rows are read to skip to an offset that has been seen before
+        verify(orderRepository, times(3)).findSummaries(any(), any(), anyInt());
+    }
+
+    @Test
+    void jumpAhead_walksForwardFromClosestKnownRow() {
+        when(orderRepository.findSummaries(any(), any(), eq(4))).thenReturn(orders(10, 9, 8, 7));
+        when(orderRepository.findSummaries(any(), any(), eq(2))).thenReturn(orders(6, 5));
+
+        List<OrderSummary> page = fetch(4, 2, QuerySortOrder.desc(OrderListDataProvider.SORT_ID).build());
+
+        assertEquals(List.of(6L, 5L), page.stream().map(OrderSummary::id).toList());
+        verify(orderRepository, times(2)).findSummaries(any(), eq(Sort.by(Sort.Direction.DESC, "id")), anyInt());
+    }
+
+    @Test
+    void jumpPastEnd_returnsEmptyPage() {
+        when(orderRepository.findSummaries(any(), any(), eq(10))).thenReturn(orders(1, 2, 3));
+
+        assertTrue(fetch(10, 5, List.of()).isEmpty());
+    }
+
+    @Test
+    void scrollingThroughManyPages_keepsBoundedNumberOfPositions() {
+        long[] nextId = {1};
+        when(orderRepository.findSummaries(any(), any(), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(2);
+            return LongStream.range(nextId[0], nextId[0] += limit).mapToObj(id -> order(id, OrderState.NEW)).toList();
+        });
+
+        for (int page = 0; page < OrderListDataProvider.MAX_CURSORS * 2; page++) {
+            fetch(page * 50, 50, List.of());
+        }
+
+        assertEquals(OrderListDataProvider.MAX_CURSORS, dataProvider.getCursorCount());
+    }
+
+    @Test
+    void size_countsMatchingOrders() {
+        when(orderRepository.count(ArgumentMatchers.<Specification<Order>>any())).thenReturn(42L);
+
+        assertEquals(42, dataProvider.size(new Query<>()));
+    }
+
+    @Test
+    void changeKeepingPosition_refreshesOnlyThatRow() {
+        dataProvider.applyChanges(List.of(new OrderChange(
+                order(1L, OrderState.NEW), order(1L, OrderState.READY))));
+
+        assertEquals(1, events.size());
+        assertInstanceOf(DataChangeEvent.DataRefreshEvent.class, events.getFirst());
+        assertEquals(1L, ((DataChangeEvent.DataRefreshEvent<OrderSummary>) events.getFirst()).getItem().id());
+    }
+
+    @Test
+    void changeLeavingFilter_reloads() {
+        dataProvider.setFilter(new OrderFilter(OrderState.NEW, null, null, null));
+        events.clear();
+
+        dataProvider.applyChanges(List.of(new OrderChange(
+                order(1L, OrderState.NEW), order(1L, OrderState.READY))));
+
+        assertEquals(1, events.size());
+        assertFalse(events.getFirst() instanceof DataChangeEvent.DataRefreshEvent);
+    }
+
+    @Test
+    void changeOutsideFilter_isIgnored() {
+        dataProvider.setFilter(new OrderFilter(OrderState.NEW, null, null, null));
+        events.clear();
+
+        dataProvider.applyChanges(List.of(new OrderChange(null, order(1L, OrderState.DELIVERED))));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void evictionOfMatchingOrder_isIgnored() {
+        dataProvider.applyChanges(List.of(new OrderChange(order(1L, OrderState.DELIVERED), null, true)));
+
+        assertTrue(events.isEmpty());
+    }
+
+    private List<OrderSummary> fetch(int offset, int limit, List<QuerySortOrder> sortOrders) {
+        return dataProvider.fetch(new Query<>(offset, limit, sortOrders, null, null)).toList();
+    }
+
+    private List<OrderSummary> orders(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> order(id, OrderState.NEW)).toList();
+    }
+
+    private OrderSummary order(Long id, OrderState state) {
+        return new OrderSummary(id, 0L, "Customer " + id, DUE, state, 1000, PickupLocation.STOREFRONT, false);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.orders.ui;
+
+import com.example.orders.domain.OrderState;
+import com.example.orders.domain.OrderSummary;
+import com.example.orders.domain.PickupLocation;
+import com.example.orders.signals.OrderChange;
+import com.example.orders.signals.OrderSignals;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OrdersDueDataProvider.
+ * Verifies that it reads the shared orders of its day and applies changes row by row.
+ */
+class OrdersDueDataProviderTest {
+
+    private static final LocalDate DUE = LocalDate.of(2030, 1, 1);
+
+    private OrdersDueDataProvider dataProvider;
+
+    private long seenChangeSequence;
+
+    private final List<DataChangeEvent<OrderSummary>> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        OrderSignals.reset();
+        OrderSignals.batch(batch -> batch
+                .put(order(1L, 0L, DUE, OrderState.NEW))
+                .put(order(2L, 0L, DUE, OrderState.NEW))
+                .put(order(3L, 0L, DUE.plusDays(1), OrderState.NEW)));
+        seenChangeSequence = OrderSignals.getChangeSequence();
+        dataProvider = new OrdersDueDataProvider(DUE);
+        dataProvider.addDataProviderListener(events::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrderSignals.reset();
+    }
+
+    @Test
+    void items_areOrdersDueOnTheDay() {
+        assertEquals(List.of(1L, 2L), fetchIds());
+    }
+
+    @Test
+    void orderUpdatedInPlace_refreshesOnlyThatRow() {
+        OrderSignals.putOrder(order(2L, 1L, DUE, OrderState.READY));
+
+        applyNewChanges();
+
+        assertEquals(1, events.size());
+        DataChangeEvent.DataRefreshEvent<OrderSummary> refresh =
+                assertInstanceOf(DataChangeEvent.DataRefreshEvent.class, events.getFirst());
+        assertEquals(OrderState.READY, refresh.getItem().state());
+        assertEquals(OrderState.READY, dataProvider.fetch(new Query<>()).toList().getLast().state());
+    }
+
+    @Test
+    void orderAddedToTheDay_reloads() {
+        OrderSignals.putOrder(order(4L, 0L, DUE, OrderState.NEW));
+
+        applyNewChanges();
+
+        assertEquals(1, events.size());
+        assertFalse(events.getFirst() instanceof DataChangeEvent.DataRefreshEvent);
+        assertEquals(List.of(1L, 2L, 4L), fetchIds());
+    }
+
+    @Test
+    void orderMovedToAnotherDay_reloads() {
+        OrderSignals.putOrder(order(1L, 1L, DUE.plusDays(1), OrderState.NEW));
+
+        applyNewChanges();
+
+        assertEquals(1, events.size());
+        assertFalse(events.getFirst() instanceof DataChangeEvent.DataRefreshEvent);
+        assertEquals(List.of(2L), fetchIds());
+    }
+
+    @Test
+    void changeOnAnotherDay_isIgnored() {
+        OrderSignals.putOrder(order(3L, 1L, DUE.plusDays(1), OrderState.READY));
+
+        applyNewChanges();
+
+        assertTrue(events.isEmpty());
+    }
+
+    private void applyNewChanges() {
+        List<OrderChange> changes = OrderSignals.changesSince(seenChangeSequence).orElseThrow();
+        seenChangeSequence += changes.size();
+        dataProvider.applyChanges(changes);
+    }
+
+    private List<Long> fetchIds() {
+        return dataProvider.fetch(new Query<>()).map(OrderSummary::id).toList();
+    }
+
+    private OrderSummary order(Long id, Long version, LocalDate dueDate, OrderState state) {
+        return new OrderSummary(id, version, "Customer " + id, dueDate, state, 1000, PickupLocation.STOREFRONT, false);
+    }
+}
@@ -4,6 +4,7 @@ import com.example.config.SecurityConfig;
 import com.example.products.domain.Product;
 import com.example.products.domain.ProductRepository;
 import com.example.products.service.ProductService;
+import com.example.shared.domain.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +14,6 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,7 +42,7 @@ class ProductSecurityIntegrationTest {
         testProduct = new Product();
         testProduct.setName("Test Product");
         testProduct.setDescription("Test description");
-        testProduct.setPrice(new BigDecimal("5.00"));
+        testProduct.setPrice(Money.ofCents(500));
         testProduct.setAvailable(true);
     }
 
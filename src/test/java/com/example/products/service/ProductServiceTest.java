@@ -2,6 +2,7 @@ package com.example.products.service;
 
 import com.example.products.domain.Product;
 import com.example.products.domain.ProductRepository;
+import com.example.shared.domain.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +10,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -39,7 +39,7 @@ class ProductServiceTest {
         testProduct = new Product();
         testProduct.setName("Test Croissant");
         testProduct.setDescription("Buttery and flaky");
-        testProduct.setPrice(new BigDecimal("3.50"));
+        testProduct.setPrice(Money.ofCents(350));
         testProduct.setAvailable(true);
     }
 
@@ -58,7 +58,7 @@ class ProductServiceTest {
 
         assertNotNull(created.getId());
         assertEquals("Test Croissant", created.getName());
-        assertEquals(new BigDecimal("3.50"), created.getPrice());
+        assertEquals(Money.ofCents(350), created.getPrice());
         assertTrue(created.isAvailable());
         verify(productRepository).save(testProduct);
     }
@@ -79,7 +79,7 @@ class ProductServiceTest {
         Product existingProduct = new Product();
         existingProduct.setId(1L);
         existingProduct.setName("Original Name");
-        existingProduct.setPrice(new BigDecimal("3.50"));
+        existingProduct.setPrice(Money.ofCents(350));
 
         testProduct.setId(1L);
         testProduct.setName("Updated Name");
@@ -143,12 +143,12 @@ class ProductServiceTest {
         Product product1 = new Product();
         product1.setId(1L);
         product1.setName("Croissant");
-        product1.setPrice(new BigDecimal("3.50"));
+        product1.setPrice(Money.ofCents(350));
 
         Product product2 = new Product();
         product2.setId(2L);
         product2.setName("Baguette");
-        product2.setPrice(new BigDecimal("2.00"));
+        product2.setPrice(Money.ofCents(200));
 
         when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
 
@@ -2,13 +2,13 @@ package com.example.products.ui;
 
 import com.example.products.domain.Product;
 import com.example.products.service.ProductService;
+import com.example.shared.domain.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -146,7 +146,7 @@ class ProductManagementViewTest {
         product.setId(1L);
         product.setName(name);
         product.setDescription("Test description");
-        product.setPrice(new BigDecimal("3.50"));
+        product.setPrice(Money.ofCents(350));
         product.setAvailable(true);
         return product;
     }
@@ -0,0 +1,97 @@
+package com.example.shared.datagen;
+
+import com.example.orders.domain.OrderState;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SyntheticData.
+ * Verifies that the generated rows are reproducible and consistent with each other.
+ */
+class SyntheticDataTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    @Test
+    void sameSeed_generatesSameRows() {
+        assertEquals(generate(7), generate(7));
+        assertNotEquals(generate(7), generate(8));
+    }
+
+    @Test
+    void orders_referToGeneratedProductsAndCustomers() {
+        List<String> tables = generate(1);
+        List<String[]> orders = rows(tables.get(2));
+        List<String[]> items = rows(tables.get(3));
+
+        assertEquals(1000, orders.size());
+        assertTrue(items.size() >= orders.size());
+        for (String[] order : orders) {
+            long customerId = Long.parseLong(order[3]);
+            assertTrue(customerId >= 100 && customerId < 150, "customer " + customerId);
+        }
+        for (String[] item : items) {
+            long productId = Long.parseLong(item[1]);
+            assertTrue(productId >= 10 && productId < 30, "product " + productId);
+        }
+    }
+
+    @Test
+    void orderTotals_matchItemsAndDiscount() {
+        List<String> tables = generate(3);
+        Map<String, BigDecimal> subtotals = new HashMap<>();
+        for (String[] item : rows(tables.get(3))) {
+            subtotals.merge(item[0], new BigDecimal(item[3]).multiply(new BigDecimal(item[2])), BigDecimal::add);
+        }
+
+        for (String[] order : rows(tables.get(2))) {
+            BigDecimal total = new BigDecimal(order[4]);
+            BigDecimal discount = new BigDecimal(order[5]);
+            assertEquals(0, subtotals.get(order[0]).subtract(discount).compareTo(total), "order " + order[0]);
+        }
+    }
+
+    @Test
+    void pastOrders_areFinished() {
+        for (String[] order : rows(generate(5).get(2))) {
+            if (LocalDate.parse(order[1]).isBefore(TODAY)) {
+                OrderState state = OrderState.valueOf(order[2]);
+                assertTrue(state == OrderState.DELIVERED || state == OrderState.CANCELLED);
+            }
+        }
+    }
+
+    @Test
+    void ordersBeforeCustomers_areRejected() {
+        SyntheticData data = new SyntheticData(1, TODAY, 30, 30);
+
+        assertThrows(IllegalStateException.class,
+                () -> data.orders(1, 1, new StringBuilder(), new StringBuilder()));
+    }
+
+    private List<String> generate(long seed) {
+        SyntheticData data = new SyntheticData(seed, TODAY, 90, 30);
+        StringBuilder products = new StringBuilder();
+        StringBuilder customers = new StringBuilder();
+        StringBuilder orders = new StringBuilder();
+        StringBuilder items = new StringBuilder();
+        data.products(10, 20, products);
+        data.customers(100, 20, customers);
+        data.customers(120, 30, customers);
+        data.orders(1, 600, orders, items);
+        data.orders(601, 400, orders, items);
+        return List.of(products.toString(), customers.toString(), orders.toString(), items.toString());
+    }
+
+    private List<String[]> rows(String table) {
+        return Arrays.stream(table.split("\n")).map(row -> row.split("\t")).toList();
+    }
+}
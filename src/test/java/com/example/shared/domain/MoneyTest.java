@@ -0,0 +1,47 @@
+package com.example.shared.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Money and its database converter.
+ */
+class MoneyTest {
+
+    @Test
+    void of_roundsToWholeCents() {
+        assertEquals(1250, Money.of(new BigDecimal("12.5")).cents());
+        assertEquals(1, Money.of(new BigDecimal("0.005")).cents());
+        assertSame(Money.ZERO, Money.of(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void arithmetic_isExact() {
+        Money price = Money.ofCents(333);
+
+        assertEquals(Money.ofCents(999), price.times(3));
+        assertEquals(Money.ofCents(1332), price.times(3).plus(price));
+        assertTrue(price.minus(Money.ofCents(400)).isNegative());
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).times(2));
+    }
+
+    @Test
+    void format_showsDollarsAndCents() {
+        assertEquals("$12.05", Money.ofCents(1205).toString());
+        assertEquals("$0.00", Money.ZERO.toString());
+        assertEquals("-$0.50", Money.format(-50));
+    }
+
+    @Test
+    void converter_roundTripsDecimalColumn() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("12.50"), converter.convertToDatabaseColumn(Money.ofCents(1250)));
+        assertEquals(Money.ofCents(1250), converter.convertToEntityAttribute(new BigDecimal("12.50")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.UI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CoalescingScheduler.
+ * Verifies that updates scheduled within the window are collapsed per key.
+ */
+class CoalescingSchedulerTest {
+
+    private final UI ui = new UI();
+
+    private final List<String> applied = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        CoalescingScheduler.setWindow(Duration.ofMillis(150));
+    }
+
+    @Test
+    void updatesWithinWindow_areAppliedOncePerKey() {
+        CoalescingScheduler.setWindow(Duration.ofHours(1));
+        CoalescingScheduler scheduler = CoalescingScheduler.get(ui);
+        Object counter = new Object();
+        Object grid = new Object();
+
+        scheduler.schedule(counter, () -> applied.add("counter 1"));
+        scheduler.schedule(grid, () -> applied.add("grid"));
+        scheduler.schedule(counter, () -> applied.add("counter 2"));
+
+        assertTrue(applied.isEmpty());
+        assertEquals(2, scheduler.getPendingCount());
+
+        scheduler.flush();
+
+        assertEquals(List.of("counter 2", "grid"), applied);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void zeroWindow_appliesRightAway() {
+        CoalescingScheduler.setWindow(Duration.ZERO);
+
+        CoalescingScheduler.get(ui).schedule(new Object(), () -> applied.add("counter"));
+
+        assertEquals(List.of("counter"), applied);
+    }
+
+    @Test
+    void get_returnsSameSchedulerForUi() {
+        assertSame(CoalescingScheduler.get(ui), CoalescingScheduler.get(ui));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.shared.ui;
+
+import com.vaadin.flow.component.PushConfiguration;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.PushConnection;
+import com.vaadin.flow.server.communication.PushConnectionFactory;
+import com.vaadin.flow.shared.communication.PushMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MeteredPushConnectionFactory.
+ * Verifies that Vaadin finds the factory and that each UI gets a single metered connection.
+ */
+class MeteredPushConnectionFactoryTest {
+
+    @Test
+    void factory_isTheOnlyRegisteredService() {
+        // Vaadin refuses to bootstrap a UI if more than one factory is registered
+        List<PushConnectionFactory> factories = ServiceLoader.load(PushConnectionFactory.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+
+        assertEquals(1, factories.size());
+        assertInstanceOf(MeteredPushConnectionFactory.class, factories.get(0));
+    }
+
+    @Test
+    void enablingPush_createsOneMeteredConnection() {
+        UI ui = uiWithSession();
+        PushConfiguration push = ui.getPushConfiguration();
+        MeteredPushConnectionFactory factory = new MeteredPushConnectionFactory();
+        AtomicInteger created = new AtomicInteger();
+        push.setPushConnectionFactory(current -> {
+            created.incrementAndGet();
+            return factory.apply(current);
+        });
+
+        // As during bootstrap: the mode from the app shell is applied after the configured one
+        push.setPushMode(PushMode.AUTOMATIC);
+        PushConnection connection = ui.getInternals().getPushConnection();
+        push.setPushMode(PushMode.AUTOMATIC);
+
+        assertEquals(1, created.get());
+        assertInstanceOf(MeteredPushConnection.class, connection);
+        assertSame(connection, ui.getInternals().getPushConnection());
+    }
+
+    private static UI uiWithSession() {
+        VaadinService service = mock(VaadinService.class);
+        when(service.ensurePushAvailable()).thenReturn(true);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getService()).thenReturn(service);
+        when(session.hasLock()).thenReturn(true);
+        UI ui = new UI();
+        ui.getInternals().setSession(session);
+        return ui;
+    }
+}